@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Runs the same k6 load against auth-service and user-service twice: once on
+# Tomcat's platform thread pool and once with the virtual-threads profile.
+# Expects the config server, discovery, gateway, Postgres, Redis and Kafka
+# to be running already, and a verified account for LOAD_EMAIL/LOAD_PASSWORD.
+#
+# Every k6 login comes from the same address, so auth-service is started with
+# its per-client login limiter raised well above the login rate; otherwise the
+# runs would measure 429s from the limiter rather than the threading mode.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+OUT="${OUT:-$ROOT/target/threading-comparison}"
+SERVICES=(auth-service user-service)
+JVM_OPTS="${JVM_OPTS:--Xms512m -Xmx512m -Djdk.tracePinnedThreads=short}"
+RATE="${RATE:-200}"
+LOGIN_RATE=$(( RATE / 10 > 0 ? RATE / 10 : 1 ))
+AUTH_ARGS=(
+    "--app.security.rate-limit.local.capacity=$(( LOGIN_RATE * 4 ))"
+    "--app.security.rate-limit.local.refill-per-second=$(( LOGIN_RATE * 2 ))"
+)
+export RATE
+
+mkdir -p "$OUT"
+
+for service in "${SERVICES[@]}"; do
+    (cd "$ROOT/services/$service" && ./mvnw -q -DskipTests package)
+done
+
+start_services() {
+    local mode="$1" profile="$2"
+    PIDS=()
+
+    for service in "${SERVICES[@]}"; do
+        local jar args=()
+        jar="$(ls "$ROOT/services/$service"/target/*.jar | grep -v original | head -n 1)"
+        [[ "$service" == "auth-service" ]] && args=("${AUTH_ARGS[@]}")
+        java $JVM_OPTS -jar "$jar" --management.endpoints.web.exposure.include=health,metrics \
+            ${profile:+--spring.profiles.active=$profile} "${args[@]}" \
+            > "$OUT/$service-$mode.log" 2>&1 &
+        PIDS+=($!)
+    done
+
+    for port in 8090 8070; do
+        until curl -fs "http://localhost:$port/actuator/health" > /dev/null; do sleep 2; done
+    done
+}
+
+stop_services() {
+    kill "${PIDS[@]}" 2> /dev/null || true
+    wait "${PIDS[@]}" 2> /dev/null || true
+}
+
+trap stop_services EXIT
+
+for mode in platform virtual; do
+    profile=""
+    [[ "$mode" == "virtual" ]] && profile="virtual-threads"
+
+    echo "== $mode threads =="
+    start_services "$mode" "$profile"
+
+    k6 run --summary-export "$OUT/k6-$mode.json" "$ROOT/scripts/load/threading-comparison.js" \
+        | tee "$OUT/k6-$mode.txt"
+
+    for port in 8090 8070; do
+        curl -fs "http://localhost:$port/actuator/metrics/jvm.threads.live" > "$OUT/threads-$mode-$port.json" || true
+        curl -fs "http://localhost:$port/actuator/metrics/jvm.threads.virtual.pinned" > "$OUT/pinned-$mode-$port.json" || true
+    done
+
+    stop_services
+done
+
+echo "Results written to $OUT"
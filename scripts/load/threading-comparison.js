@@ -0,0 +1,70 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const GATEWAY = __ENV.GATEWAY_URL || 'http://localhost:8222';
+const EMAIL = __ENV.LOAD_EMAIL || 'load-test@example.com';
+const PASSWORD = __ENV.LOAD_PASSWORD || 'LoadTest123!';
+// compare-threading.sh raises auth-service's per-client login limit to match this rate, since every
+// login here comes from one address; run against a default auth-service, most logins would get 429
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '2m';
+
+const loginLatency = new Trend('login_latency', true);
+const profileLatency = new Trend('profile_latency', true);
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: Math.max(1, Math.floor(RATE / 10)),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+        },
+        profile: {
+            executor: 'constant-arrival-rate',
+            exec: 'profile',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function authenticate() {
+    const response = http.post(
+        `${GATEWAY}/api/v1/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+    return response;
+}
+
+export function setup() {
+    const response = authenticate();
+    check(response, { 'setup login succeeded': (r) => r.status === 200 });
+    return { token: response.json('data.accessToken') };
+}
+
+export function login() {
+    const response = authenticate();
+    loginLatency.add(response.timings.duration);
+    check(response, { 'login 200': (r) => r.status === 200 });
+}
+
+export function profile(data) {
+    const response = http.get(`${GATEWAY}/api/v1/users/profile`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+    });
+    profileLatency.add(response.timings.duration);
+    check(response, { 'profile 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,141 @@
+#!/usr/bin/env bash
+# Builds every service with the aot-cds profile and compares cold starts of the
+# plain executable jar against the extracted jar running with the AppCDS
+# archive (plus Spring AOT where the module supports it). For each service it
+# records time-to-ready (launch until "Started ..." is logged), the startup
+# time Spring reports, and the latency of the first request.
+#
+# Expects Postgres, Redis, Kafka and MongoDB from docker/docker-compose.yml to
+# be running. The config server is started during the build so the training
+# runs see the same configuration as production; AOT freezes bean conditions,
+# so pass profiles that change them at build time, e.g.
+#   AOT_ARGS="-Dspring.profiles.active=virtual-threads" ./startup-benchmark.sh
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+OUT="${OUT:-$ROOT/target/startup-benchmark}"
+RUNS="${RUNS:-3}"
+JVM_OPTS="${JVM_OPTS:--Xms512m -Xmx512m}"
+AOT_ARGS="${AOT_ARGS:-}"
+SERVICES=(config-server discovery auth-service user-service notification-service gateway)
+
+declare -A PORTS=(
+    [config-server]=8888 [discovery]=8761 [auth-service]=8090
+    [user-service]=8070 [notification-service]=8030 [gateway]=8222
+)
+declare -A FIRST_REQUEST=(
+    [config-server]=/auth-service/default
+    [discovery]=/eureka/apps
+    [auth-service]=/.well-known/jwks.json
+    [user-service]=/api-docs
+    [notification-service]=/
+    [gateway]=/.well-known/jwks.json
+)
+
+mkdir -p "$OUT"
+RESULTS="$OUT/results.csv"
+echo "mode,service,run,ready_ms,started_in_s,first_request_ms" > "$RESULTS"
+
+PIDS=()
+
+jar_name() {
+    basename "$(ls "$ROOT/services/$1"/target/*.jar | grep -v original | head -n 1)"
+}
+
+launch() {
+    local mode="$1" service="$2" log="$3"
+    local dir="$ROOT/services/$service/target" jar
+    jar="$(jar_name "$service")"
+
+    if [[ "$mode" == "aot-cds" ]]; then
+        local aot=false
+        [[ -d "$dir/spring-aot/main" ]] && aot=true
+        (cd "$dir/cds" && exec java $JVM_OPTS -XX:SharedArchiveFile=application.jsa \
+            -Dspring.aot.enabled=$aot -jar "$jar") > "$log" 2>&1 &
+    else
+        java $JVM_OPTS -jar "$dir/$jar" > "$log" 2>&1 &
+    fi
+
+    LAST_PID=$!
+}
+
+wait_started() {
+    local log="$1" pid="$2"
+    until grep -q "Started .* in .* seconds" "$log"; do
+        kill -0 "$pid" 2> /dev/null || { echo "Process exited, see $log" >&2; return 1; }
+        sleep 0.05
+    done
+}
+
+stop() {
+    kill "$@" 2> /dev/null || true
+    wait "$@" 2> /dev/null || true
+}
+
+stop_all() {
+    [[ ${#PIDS[@]} -gt 0 ]] && stop "${PIDS[@]}"
+    PIDS=()
+}
+
+trap stop_all EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+echo "== building with -Paot-cds =="
+for service in "${SERVICES[@]}"; do
+    args=(-q -DskipTests -Paot-cds package)
+    [[ -n "$AOT_ARGS" ]] && args+=("-Daot.jvm.arguments=-Dspring.cloud.refresh.enabled=false $AOT_ARGS")
+    (cd "$ROOT/services/$service" && ./mvnw "${args[@]}")
+
+    if [[ "$service" == "config-server" ]]; then
+        launch jar config-server "$OUT/config-server-build.log"
+        PIDS+=("$LAST_PID")
+        wait_started "$OUT/config-server-build.log" "$LAST_PID"
+    fi
+done
+stop_all
+
+for mode in jar aot-cds; do
+    echo "== $mode =="
+
+    for service in "${SERVICES[@]}"; do
+        port="${PORTS[$service]}"
+
+        for run in $(seq 1 "$RUNS"); do
+            log="$OUT/$service-$mode-$run.log"
+            start="$(now_ms)"
+
+            launch "$mode" "$service" "$log"
+            pid="$LAST_PID"
+            wait_started "$log" "$pid"
+            ready=$(( $(now_ms) - start ))
+
+            started_in="$(grep -o "Started .* in [0-9.]* seconds" "$log" | grep -o "[0-9.]* seconds" | cut -d' ' -f1)"
+            first="$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$port${FIRST_REQUEST[$service]}")"
+            first_ms="$(awk -v t="$first" 'BEGIN { printf "%.1f", t * 1000 }')"
+
+            echo "$mode,$service,$run,$ready,$started_in,$first_ms" | tee -a "$RESULTS"
+
+            if [[ "$run" -lt "$RUNS" ]]; then
+                stop "$pid"
+            else
+                PIDS+=("$pid")
+            fi
+        done
+    done
+
+    stop_all
+done
+
+echo
+awk -F, 'NR > 1 { key = $1 "," $2; ready[key] += $4; first[key] += $6; n[key]++ }
+    END {
+        printf "%-8s %-22s %12s %18s\n", "mode", "service", "ready_ms", "first_request_ms"
+        for (k in n) {
+            split(k, p, ",")
+            printf "%-8s %-22s %12.0f %18.1f\n", p[1], p[2], ready[k] / n[k], first[k] / n[k]
+        }
+    }' "$RESULTS" | sort -k2,2 -k1,1
+echo "Results written to $RESULTS"
@@ -0,0 +1,37 @@
+package com.dev.quikkkk.auth_service.benchmark;
+
+import com.dev.quikkkk.auth_service.entity.Role;
+import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
+import com.dev.quikkkk.auth_service.service.impl.JwtServiceImpl;
+import com.dev.quikkkk.auth_service.service.impl.SigningKeyServiceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+    }
+
+    static JwtServiceImpl jwtService() {
+        var signingKeyService = new SigningKeyServiceImpl("local-only", List.of("local-only"), "local-only", "keys");
+        JwtServiceImpl jwtService = new JwtServiceImpl(signingKeyService);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", TimeUnit.MINUTES.toMillis(15));
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", TimeUnit.DAYS.toMillis(7));
+        return jwtService;
+    }
+
+    static UserSnapshot user() {
+        return user("6f1c2a9e-8d44-4c8f-9a57-1d2b3c4d5e6f");
+    }
+
+    static UserSnapshot user(String id) {
+        return UserSnapshot.from(UserCredentials.builder()
+                .id(id)
+                .email(id + "@example.com")
+                .roles(Set.of(Role.builder().name("ROLE_MEMBER").build()))
+                .build());
+    }
+}
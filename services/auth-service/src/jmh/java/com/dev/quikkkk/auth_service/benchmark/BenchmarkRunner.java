@@ -0,0 +1,37 @@
+package com.dev.quikkkk.auth_service.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class BenchmarkRunner {
+    private static final String DEFAULT_THREADS = "1,8,32";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String include = args.length > 0 ? args[0] : ".*Benchmark";
+        String threads = System.getProperty("jmh.threads", DEFAULT_THREADS);
+        Path resultDir = Path.of(System.getProperty("jmh.resultDir", "target/jmh"));
+
+        Files.createDirectories(resultDir);
+
+        for (String value : threads.split(",")) {
+            int threadCount = Integer.parseInt(value.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threadCount)
+                    .shouldFailOnError(true)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultDir.resolve("jmh-" + threadCount + "-threads.json").toString())
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
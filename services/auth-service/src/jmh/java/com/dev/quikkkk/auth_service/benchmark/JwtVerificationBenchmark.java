@@ -0,0 +1,94 @@
+package com.dev.quikkkk.auth_service.benchmark;
+
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.dev.quikkkk.auth_service.service.impl.JwtServiceImpl;
+import com.dev.quikkkk.auth_service.utils.KeyUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class JwtVerificationBenchmark {
+    private static final int TOKEN_POOL_SIZE = 1024;
+
+    private JwtServiceImpl jwtService;
+    private Cache<String, TokenIntrospection> claimsCache;
+    private PublicKey publicKey;
+    private JwtParser reusableParser;
+    private String[] tokens;
+
+    @State(Scope.Thread)
+    public static class TokenCursor {
+        private int position;
+
+        String next(String[] tokens) {
+            position = (position + 1) & (tokens.length - 1);
+            return tokens[position];
+        }
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        jwtService = BenchmarkFixtures.jwtService();
+        claimsCache = (Cache<String, TokenIntrospection>) ReflectionTestUtils.getField(jwtService, "claimsCache");
+        publicKey = KeyUtils.loadPublicKey("keys/local-only/public_key.pem");
+        reusableParser = Jwts.parser().verifyWith(publicKey).build();
+        tokens = new String[TOKEN_POOL_SIZE];
+
+        for (int i = 0; i < TOKEN_POOL_SIZE; i++) {
+            tokens[i] = jwtService.generateAccessToken(BenchmarkFixtures.user("user-" + i));
+        }
+    }
+
+    @Benchmark
+    public TokenIntrospection claimsCacheHit() {
+        return jwtService.introspect(tokens[0]);
+    }
+
+    @Benchmark
+    public TokenIntrospection claimsCacheMiss(TokenCursor cursor) {
+        String token = cursor.next(tokens);
+        claimsCache.invalidate(token);
+        return jwtService.introspect(token);
+    }
+
+    @Benchmark
+    public JwtParser parserBuild() {
+        return Jwts.parser().verifyWith(publicKey).build();
+    }
+
+    @Benchmark
+    public Claims verifyWithParserPerCall(TokenCursor cursor) {
+        return Jwts.parser()
+                .verifyWith(publicKey)
+                .build()
+                .parseSignedClaims(cursor.next(tokens))
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims verifyWithReusedParser(TokenCursor cursor) {
+        return reusableParser.parseSignedClaims(cursor.next(tokens)).getPayload();
+    }
+}
@@ -0,0 +1,163 @@
+package com.dev.quikkkk.auth_service.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import com.dev.quikkkk.auth_service.logging.LogfmtLayout;
+import com.dev.quikkkk.auth_service.logging.SamplingRule;
+import com.dev.quikkkk.auth_service.logging.SamplingTurboFilter;
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.dev.quikkkk.auth_service.service.impl.JwtServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a token validation request (a warm introspection plus the log lines such a request
+ * produces, one of them carrying the bearer header) with logging "off", the previous synchronous console
+ * pattern ("sync"), the async logfmt pipeline from logback-spring.xml ("async") and the same pipeline with
+ * the validate-token sampling rule ("async-sampled"). Output goes to a discarding stream, so the numbers are
+ * the CPU and lock cost on request threads, not terminal or disk I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class LoggingBenchmark {
+    private static final String PATH = "/api/v1/auth/validate-token";
+    private static final String CONSOLE_PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [auth-service] --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"off", "sync", "async", "async-sampled"})
+    private String logging;
+
+    private LoggerContext context;
+    private Logger filterLog;
+    private Logger serviceLog;
+    private JwtServiceImpl jwtService;
+    private String token;
+    private String header;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = BenchmarkFixtures.jwtService();
+        token = jwtService.generateAccessToken(BenchmarkFixtures.user());
+        header = "Bearer " + token;
+
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        switch (logging) {
+            case "off" -> root.setLevel(Level.OFF);
+            case "sync" -> root.addAppender(syncAppender());
+            case "async" -> root.addAppender(asyncAppender());
+            case "async-sampled" -> {
+                context.addTurboFilter(samplingFilter());
+                root.addAppender(asyncAppender());
+            }
+            default -> throw new IllegalArgumentException(logging);
+        }
+        if (!"off".equals(logging)) root.setLevel(Level.INFO);
+
+        filterLog = context.getLogger("com.dev.quikkkk.auth_service.security.JwtFilter");
+        serviceLog = context.getLogger("com.dev.quikkkk.auth_service.service.impl.AuthenticationServiceImpl");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public TokenIntrospection validateTokenRequest() {
+        MDC.put(SamplingTurboFilter.PATH_KEY, PATH);
+        try {
+            filterLog.info("Authorizing request with header {}", header);
+            TokenIntrospection introspection = jwtService.introspect(token);
+            serviceLog.debug("Token validation successful for user: {}", introspection.userId());
+            serviceLog.info("Token validated for user {} with roles {}", introspection.userId(), introspection.roles());
+            return introspection;
+        } finally {
+            MDC.remove(SamplingTurboFilter.PATH_KEY);
+        }
+    }
+
+    private OutputStreamAppender<ILoggingEvent> syncAppender() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(CONSOLE_PATTERN);
+        encoder.start();
+
+        return discardingAppender("SYNC", encoder);
+    }
+
+    private AsyncAppender asyncAppender() {
+        LogfmtLayout layout = new LogfmtLayout();
+        layout.setContext(context);
+        layout.setApp("auth-service");
+        layout.start();
+
+        LayoutWrappingEncoder<ILoggingEvent> encoder = new LayoutWrappingEncoder<>();
+        encoder.setContext(context);
+        encoder.setLayout(layout);
+        encoder.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(discardingAppender("CONSOLE", encoder));
+        async.start();
+
+        return async;
+    }
+
+    private SamplingTurboFilter samplingFilter() {
+        SamplingRule rule = new SamplingRule();
+        rule.setPath(PATH);
+        rule.setSampleRate(0.01);
+
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.addRule(rule);
+        filter.start();
+
+        return filter;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> discardingAppender(String name, Encoder<ILoggingEvent> encoder) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        return appender;
+    }
+}
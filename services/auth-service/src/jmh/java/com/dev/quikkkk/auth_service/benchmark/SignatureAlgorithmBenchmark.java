@@ -0,0 +1,76 @@
+package com.dev.quikkkk.auth_service.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class SignatureAlgorithmBenchmark {
+    @Param({"RS256", "ES256", "Ed25519"})
+    private String algorithm;
+
+    private PrivateKey privateKey;
+    private JwtParser parser;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        KeyPair keyPair = switch (algorithm) {
+            case "RS256" -> Jwts.SIG.RS256.keyPair().build();
+            case "ES256" -> Jwts.SIG.ES256.keyPair().build();
+            case "Ed25519" -> Jwks.CRV.Ed25519.keyPair().build();
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        };
+
+        privateKey = keyPair.getPrivate();
+        parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+        claims = Map.of(
+                "token_type", "ACCESS_TOKEN",
+                "userId", "6f1c2a9e-8d44-4c8f-9a57-1d2b3c4d5e6f",
+                "roles", List.of("ROLE_MEMBER")
+        );
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claims(claims)
+                .subject("member@example.com")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.MINUTES.toMillis(15)))
+                .signWith(privateKey)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,100 @@
+package com.dev.quikkkk.auth_service.benchmark;
+
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.dev.quikkkk.auth_service.service.impl.JwtServiceImpl;
+import com.dev.quikkkk.auth_service.utils.KeyUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.PublicKey;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request work of the previous {@code JwtFilter} flow (three cached claim lookups plus an
+ * uncached expiry check that rebuilt the parser and re-verified the signature) with a single
+ * {@link JwtServiceImpl#introspect(String)} call. "Warm" means the token was seen before, "cold" is its
+ * first request on this node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class TokenIntrospectionBenchmark {
+    private JwtServiceImpl jwtService;
+    private Cache<String, TokenIntrospection> introspectionCache;
+    private Cache<String, Claims> legacyClaimsCache;
+    private PublicKey publicKey;
+    private String token;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        jwtService = BenchmarkFixtures.jwtService();
+        introspectionCache = (Cache<String, TokenIntrospection>) ReflectionTestUtils.getField(jwtService, "claimsCache");
+        legacyClaimsCache = Caffeine.newBuilder().maximumSize(10000).build();
+        publicKey = KeyUtils.loadPublicKey("keys/local-only/public_key.pem");
+        token = jwtService.generateAccessToken(BenchmarkFixtures.user());
+    }
+
+    @Benchmark
+    public void legacyWarm(Blackhole blackhole) {
+        legacyFilterPath(blackhole);
+    }
+
+    @Benchmark
+    public void legacyCold(Blackhole blackhole) {
+        legacyClaimsCache.invalidate(token);
+        legacyFilterPath(blackhole);
+    }
+
+    @Benchmark
+    public TokenIntrospection introspectWarm() {
+        return jwtService.introspect(token);
+    }
+
+    @Benchmark
+    public TokenIntrospection introspectCold() {
+        introspectionCache.invalidate(token);
+        return jwtService.introspect(token);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void legacyFilterPath(Blackhole blackhole) {
+        String email = legacyClaimsCache.get(token, this::parse).getSubject();
+        String userId = legacyClaimsCache.get(token, this::parse).get("userId").toString();
+        boolean expired = parse(token).getExpiration().before(new Date());
+        List<String> roles = (List<String>) legacyClaimsCache.get(token, this::parse).get("roles");
+
+        blackhole.consume(email);
+        blackhole.consume(userId);
+        blackhole.consume(expired);
+        blackhole.consume(roles.stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    private Claims parse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(publicKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+}
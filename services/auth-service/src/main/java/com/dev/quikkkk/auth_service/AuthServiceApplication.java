@@ -10,6 +10,7 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Optional;
 
@@ -18,6 +19,7 @@ import java.util.Optional;
 @EnableCaching
 @Slf4j
 @EnableFeignClients
+@EnableScheduling
 public class AuthServiceApplication {
 
 	public static void main(String[] args) {
@@ -1,6 +1,7 @@
 package com.dev.quikkkk.auth_service.config;
 
 import com.dev.quikkkk.auth_service.security.ApplicationAuditorAware;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -12,8 +13,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class BeansConfig {
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -0,0 +1,61 @@
+package com.dev.quikkkk.auth_service.config;
+
+import com.dev.quikkkk.auth_service.entity.Role;
+import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Second-level cache regions for Hibernate. The regions are created here, on a cache manager Hibernate is
+ * handed explicitly, instead of being declared in a Caffeine config file: Caffeine cannot look up the dotted
+ * region names Hibernate uses, so externally declared regions end up "configured externally" when Hibernate
+ * asks for them to be created. Regions not listed here fall back to Hibernate's default create-warn strategy.
+ */
+@Configuration
+public class HibernateCacheConfig {
+    private static final URI CACHE_MANAGER_URI = URI.create("auth-service-hibernate");
+    private static final Duration USER_EXPIRY = Duration.ofMinutes(15);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+
+        createRegion(cacheManager, Role.class.getName(), 100, null);
+        createRegion(cacheManager, Role.class.getName() + "##NaturalId", 100, null);
+        createRegion(cacheManager, UserCredentials.class.getName(), 10_000, USER_EXPIRY);
+        createRegion(cacheManager, UserCredentials.class.getName() + ".roles", 10_000, USER_EXPIRY);
+        createRegion(cacheManager, UserCredentials.class.getName() + "##NaturalId", 10_000, USER_EXPIRY);
+        createRegion(cacheManager, "default-query-results-region", 1_000, null);
+        createRegion(cacheManager, "default-update-timestamps-region", 1_000, null);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maximumSize, Duration expireAfterAccess) {
+        // The manager is shared per class loader, so a second application context sees the regions already there
+        if (cacheManager.getCache(name) != null) return;
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterAccess != null) configuration.setExpireAfterAccess(OptionalLong.of(expireAfterAccess.toNanos()));
+
+        cacheManager.createCache(name, configuration);
+    }
+}
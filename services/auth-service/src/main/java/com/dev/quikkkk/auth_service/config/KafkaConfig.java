@@ -1,36 +1,110 @@
 package com.dev.quikkkk.auth_service.config;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.core.RoutingKafkaTemplate;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 @Configuration
 public class KafkaConfig {
+    @Value("${spring.kafka.producer.bootstrap-server:172.19.94.160:9092}")
+    private String bootstrapServers;
+
+    @Value("${app.kafka.producer.max-block-ms:500}")
+    private int maxBlockMs;
+
+    @Value("${app.kafka.producer.request-timeout-ms:10000}")
+    private int requestTimeoutMs;
+
+    @Value("${app.kafka.producer.delivery-timeout-ms:30000}")
+    private int deliveryTimeoutMs;
+
+    @Value("${app.kafka.producer.default.linger-ms:20}")
+    private int defaultLingerMs;
+
+    @Value("${app.kafka.producer.default.batch-size:65536}")
+    private int defaultBatchSize;
+
+    @Value("${app.kafka.producer.default.compression-type:lz4}")
+    private String defaultCompressionType;
+
+    @Value("${app.kafka.producer.high-throughput.topics:user-login-topic}")
+    private List<String> highThroughputTopics;
+
+    @Value("${app.kafka.producer.high-throughput.linger-ms:50}")
+    private int highThroughputLingerMs;
+
+    @Value("${app.kafka.producer.high-throughput.batch-size:131072}")
+    private int highThroughputBatchSize;
+
+    @Value("${app.kafka.producer.high-throughput.compression-type:lz4}")
+    private String highThroughputCompressionType;
+
+    @Value("${app.kafka.producer.low-latency.topics:code-topic}")
+    private List<String> lowLatencyTopics;
+
+    @Value("${app.kafka.producer.low-latency.linger-ms:0}")
+    private int lowLatencyLingerMs;
+
+    @Value("${app.kafka.producer.low-latency.batch-size:16384}")
+    private int lowLatencyBatchSize;
+
+    @Value("${app.kafka.producer.low-latency.compression-type:none}")
+    private String lowLatencyCompressionType;
+
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<Object, Object> defaultProducerFactory() {
+        return producerFactory(defaultLingerMs, defaultBatchSize, defaultCompressionType);
+    }
+
+    @Bean
+    public ProducerFactory<Object, Object> highThroughputProducerFactory() {
+        return producerFactory(highThroughputLingerMs, highThroughputBatchSize, highThroughputCompressionType);
+    }
+
+    @Bean
+    public ProducerFactory<Object, Object> lowLatencyProducerFactory() {
+        return producerFactory(lowLatencyLingerMs, lowLatencyBatchSize, lowLatencyCompressionType);
+    }
+
+    @Bean
+    public RoutingKafkaTemplate eventKafkaTemplate() {
+        Map<Pattern, ProducerFactory<Object, Object>> factories = new LinkedHashMap<>();
+
+        highThroughputTopics.forEach(topic -> factories.put(Pattern.compile(Pattern.quote(topic)), highThroughputProducerFactory()));
+        lowLatencyTopics.forEach(topic -> factories.put(Pattern.compile(Pattern.quote(topic)), lowLatencyProducerFactory()));
+        factories.put(Pattern.compile(".+"), defaultProducerFactory());
+
+        return new RoutingKafkaTemplate(factories);
+    }
+
+    private ProducerFactory<Object, Object> producerFactory(int lingerMs, int batchSize, String compressionType) {
         Map<String, Object> config = new HashMap<>();
 
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "172.19.94.160:9092");
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
-        config.put(ProducerConfig.RETRIES_CONFIG, 3);
-        config.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
-        config.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        config.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, requestTimeoutMs);
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, Math.max(deliveryTimeoutMs, lingerMs + requestTimeoutMs));
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
 
         return new DefaultKafkaProducerFactory<>(config);
     }
-
-    @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
-    }
 }
@@ -1,18 +1,39 @@
 package com.dev.quikkkk.auth_service.config;
 
+import com.dev.quikkkk.auth_service.utils.CompactRedisSerializer;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -21,36 +42,44 @@ import java.time.Duration;
 @Configuration
 @EnableCaching
 public class RedisConfig {
+    private static final String SHARED_CONNECTION_MODE = "shared";
+    private static final String SMILE_CODEC = "smile";
+
+    @Value("${app.cache.codec.format:smile}")
+    private String codecFormat;
+
+    @Value("${app.cache.codec.schema-version:1}")
+    private int schemaVersion;
+
+    @Value("${app.cache.codec.compression-threshold:1024}")
+    private int compressionThreshold;
+
     @Bean
     public RedisCacheConfiguration redisCacheConfiguration() {
+        ObjectMapper mapper = cacheObjectMapper();
+        CompactRedisSerializer<Object> serializer = new CompactRedisSerializer<>(
+                new Jackson2JsonRedisSerializer<>(mapper, mapper.constructType(Object.class)),
+                isSmile() ? CompactRedisSerializer.CODEC_SMILE : CompactRedisSerializer.CODEC_JSON,
+                schemaVersion,
+                compressionThreshold
+        );
+
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
                 .disableCachingNullValues()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                        .fromSerializer(serializer));
     }
 
     @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(RedisCacheConfiguration defaults) {
         return builder -> builder
-                .withCacheConfiguration("users",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofHours(1))
-                                .disableCachingNullValues())
-                .withCacheConfiguration("roles",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofHours(24))
-                                .disableCachingNullValues())
-                .withCacheConfiguration("blacklisted_tokens",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofHours(24))
-                                .disableCachingNullValues())
-                .withCacheConfiguration("brute_force",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(15))
-                                .disableCachingNullValues());
+                .withCacheConfiguration("users", defaults.entryTtl(Duration.ofHours(1)))
+                .withCacheConfiguration("roles", defaults.entryTtl(Duration.ofHours(24)))
+                .withCacheConfiguration("blacklisted_tokens", defaults.entryTtl(Duration.ofHours(24)))
+                .withCacheConfiguration("brute_force", defaults.entryTtl(Duration.ofMinutes(15)));
     }
 
     @Bean
@@ -67,7 +96,48 @@ public class RedisConfig {
     }
 
     @Bean
-    public LettuceConnectionFactory redisConnectionFactory() {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+        MicrometerOptions options = MicrometerOptions.builder()
+                .histogram(true)
+                .build();
+
+        return DefaultClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, options))
+                .build();
+    }
+
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory(
+            RedisProperties properties,
+            ClientResources clientResources,
+            @Value("${app.redis.connection-mode:pooled}") String connectionMode
+    ) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(properties.getHost(), properties.getPort());
+        server.setDatabase(properties.getDatabase());
+        server.setUsername(properties.getUsername());
+        if (properties.getPassword() != null) server.setPassword(RedisPassword.of(properties.getPassword()));
+
+        Duration commandTimeout = properties.getTimeout() != null ? properties.getTimeout() : Duration.ofSeconds(2);
+
+        if (SHARED_CONNECTION_MODE.equals(connectionMode)) {
+            LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                    .clientResources(clientResources)
+                    .commandTimeout(commandTimeout)
+                    .build();
+
+            LettuceConnectionFactory factory = new LettuceConnectionFactory(server, clientConfig);
+            factory.setShareNativeConnection(true);
+            factory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.flushOnClose());
+            return factory;
+        }
+
         GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
 
         poolConfig.setMaxTotal(20);
@@ -79,9 +149,41 @@ public class RedisConfig {
 
         LettucePoolingClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
                 .poolConfig(poolConfig)
-                .commandTimeout(Duration.ofSeconds(2))
+                .clientResources(clientResources)
+                .commandTimeout(commandTimeout)
                 .build();
 
-        return new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6380), clientConfig);
+        return new LettuceConnectionFactory(server, clientConfig);
+    }
+
+    private ObjectMapper cacheObjectMapper() {
+        ObjectMapper mapper;
+        if (isSmile()) {
+            SmileFactory factory = SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build();
+            mapper = new ObjectMapper(factory);
+        } else {
+            mapper = new ObjectMapper();
+        }
+
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.dev.quikkkk.auth_service.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.time.")
+                        .allowIfSubType("java.math.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return mapper;
+    }
+
+    private boolean isSmile() {
+        return SMILE_CODEC.equalsIgnoreCase(codecFormat);
     }
 }
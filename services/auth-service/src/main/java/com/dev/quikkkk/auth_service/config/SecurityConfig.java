@@ -1,6 +1,7 @@
 package com.dev.quikkkk.auth_service.config;
 
 import com.dev.quikkkk.auth_service.security.BruteForceProtectionFilter;
+import com.dev.quikkkk.auth_service.security.InternalServiceAuthFilter;
 import com.dev.quikkkk.auth_service.security.JwtFilter;
 import com.dev.quikkkk.auth_service.security.RefreshTokenFilter;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class SecurityConfig {
             "/api/v1/auth/resend-verification",
             "/api/v1/auth/forgot-password",
             "/api/v1/auth/reset-password",
+            "/.well-known/jwks.json",
             "/internal/**",
             "/actuator/**",
             "/v2/api-docs",
@@ -45,6 +47,7 @@ public class SecurityConfig {
     private final JwtFilter jwtFilter;
     private final RefreshTokenFilter refreshTokenFilter;
     private final BruteForceProtectionFilter bruteForceProtectionFilter;
+    private final InternalServiceAuthFilter internalServiceAuthFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -57,6 +60,7 @@ public class SecurityConfig {
                                 .authenticated())
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(STATELESS))
+                .addFilterBefore(internalServiceAuthFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(bruteForceProtectionFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(refreshTokenFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
@@ -10,6 +10,7 @@ import com.dev.quikkkk.auth_service.dto.request.VerifyEmailRequest;
 import com.dev.quikkkk.auth_service.dto.response.ApiResponse;
 import com.dev.quikkkk.auth_service.dto.response.AuthenticationResponse;
 import com.dev.quikkkk.auth_service.dto.response.ErrorResponse;
+import com.dev.quikkkk.auth_service.dto.response.TokenValidationResponse;
 import com.dev.quikkkk.auth_service.service.IAuthenticationService;
 import com.dev.quikkkk.auth_service.service.IEmailVerificationService;
 import com.dev.quikkkk.auth_service.utils.NetworkUtils;
@@ -33,8 +34,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
-
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -829,7 +828,8 @@ public class AuthenticationController {
                                                     "userId": "550e8400-e29b-41d4-a716-446655440000",
                                                     "email": "user@example.com",
                                                     "roles": ["ROLE_MEMBER"],
-                                                    "tokenType": "ACCESS_TOKEN"
+                                                    "tokenType": "ACCESS_TOKEN",
+                                                    "expiresAt": 1735689600
                                                 },
                                                 "error": null
                                             }
@@ -881,7 +881,7 @@ public class AuthenticationController {
                     )
             )
     })
-    public ResponseEntity<ApiResponse<Map<String, Object>>> validateToken(
+    public ResponseEntity<ApiResponse<TokenValidationResponse>> validateToken(
             @Parameter(hidden = true)
             HttpServletRequest request
     ) {
@@ -890,7 +890,7 @@ public class AuthenticationController {
             return ResponseEntity.badRequest().body(ApiResponse.error("No token provided"));
 
         String token = authHeader.substring(7);
-        Map<String, Object> validationResult = authenticationService.validateToken(token);
+        TokenValidationResponse validationResult = authenticationService.validateToken(token);
 
         return ResponseEntity.ok(ApiResponse.success(validationResult));
     }
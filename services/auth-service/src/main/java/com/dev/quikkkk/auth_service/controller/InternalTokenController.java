@@ -0,0 +1,73 @@
+package com.dev.quikkkk.auth_service.controller;
+
+import com.dev.quikkkk.auth_service.dto.request.TokenIntrospectionRequest;
+import com.dev.quikkkk.auth_service.dto.response.ApiResponse;
+import com.dev.quikkkk.auth_service.dto.response.TokenValidationResponse;
+import com.dev.quikkkk.auth_service.service.ITokenIntrospectionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/internal/tokens")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalTokenController {
+    private final ITokenIntrospectionService introspectionService;
+    private final ObjectMapper objectMapper;
+
+    private static final byte NEWLINE = '\n';
+
+    @PostMapping("/introspect")
+    public ResponseEntity<ApiResponse<List<TokenValidationResponse>>> introspect(
+            @Valid @RequestBody TokenIntrospectionRequest request
+    ) {
+        log.debug("Internal request to introspect {} tokens", request.getTokens().size());
+        return ResponseEntity.ok(ApiResponse.success(introspectionService.introspect(request.getTokens())));
+    }
+
+    @PostMapping(value = "/introspect/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> introspectStream(
+            @Valid @RequestBody TokenIntrospectionRequest request
+    ) {
+        log.debug("Internal request to stream introspection of {} tokens", request.getTokens().size());
+        // Rejected here, before the 200 and the first chunk are committed, so the client gets a proper error
+        introspectionService.checkStreamSize(request.getTokens().size());
+        ObjectWriter writer = objectMapper.writerFor(TokenValidationResponse.class);
+
+        StreamingResponseBody body = output -> introspectionService.introspectInChunks(
+                request.getTokens(),
+                chunk -> writeChunk(writer, output, chunk)
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeChunk(ObjectWriter writer, OutputStream output, List<TokenValidationResponse> chunk) {
+        try {
+            for (TokenValidationResponse result : chunk) {
+                output.write(writer.writeValueAsBytes(result));
+                output.write(NEWLINE);
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dev.quikkkk.auth_service.controller;
+
+import com.dev.quikkkk.auth_service.service.ISigningKeyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "Public keys for verifying issued JWTs")
+public class JwksController {
+    private final ISigningKeyService signingKeyService;
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "JSON Web Key Set", description = "Returns the public keys, identified by kid, that verify issued tokens")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, MINUTES).cachePublic())
+                .body(signingKeyService.getJwks());
+    }
+}
@@ -1,20 +0,0 @@
-package com.dev.quikkkk.auth_service.dto.kafka;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-import java.time.LocalDateTime;
-
-@Getter
-@Setter
-@Builder
-@AllArgsConstructor
-@NoArgsConstructor
-public class PasswordChangedEvent {
-    private String userId;
-    private String email;
-    private LocalDateTime timestamp;
-}
@@ -1,17 +0,0 @@
-package com.dev.quikkkk.auth_service.dto.kafka;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@Builder
-@AllArgsConstructor
-@NoArgsConstructor
-public class PasswordResetEvent {
-    private String email;
-    private String resetLink;
-}
@@ -1,23 +0,0 @@
-package com.dev.quikkkk.auth_service.dto.kafka;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-import java.time.LocalDateTime;
-
-@Getter
-@Setter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class UserRegisteredEvent {
-    private String userId;
-    private String firstName;
-    private String lastName;
-    private String email;
-    private String role;
-    private LocalDateTime timestamp;
-}
@@ -0,0 +1,20 @@
+package com.dev.quikkkk.auth_service.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenIntrospectionRequest {
+    @NotEmpty(message = "VALIDATION.INTROSPECT.TOKENS.NOT_EMPTY")
+    private List<String> tokens;
+}
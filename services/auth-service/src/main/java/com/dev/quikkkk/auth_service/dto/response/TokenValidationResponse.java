@@ -0,0 +1,33 @@
+package com.dev.quikkkk.auth_service.dto.response;
+
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenValidationResponse(
+        boolean valid,
+        String userId,
+        String email,
+        List<String> roles,
+        String tokenType,
+        Long expiresAt,
+        String error
+) {
+    public static TokenValidationResponse valid(TokenIntrospection introspection) {
+        return new TokenValidationResponse(
+                true,
+                introspection.userId(),
+                introspection.email(),
+                introspection.roles(),
+                introspection.tokenType(),
+                introspection.expiresAt() == null ? null : introspection.expiresAt().getEpochSecond(),
+                null
+        );
+    }
+
+    public static TokenValidationResponse invalid(String error) {
+        return new TokenValidationResponse(false, null, null, null, null, null, error);
+    }
+}
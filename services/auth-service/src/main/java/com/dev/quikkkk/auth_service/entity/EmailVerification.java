@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Table(name = "email_verification", indexes = {
         @Index(name = "idx_email", columnList = "email"),
         @Index(name = "idx_code", columnList = "code"),
-        @Index(name = "idx_user_id", columnList = "user_id")
+        @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_email_verification_expires_at", columnList = "expires_at")
 })
 @Getter
 @Setter
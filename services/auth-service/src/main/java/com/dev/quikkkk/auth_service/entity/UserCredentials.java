@@ -8,6 +8,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import lombok.AllArgsConstructor;
@@ -15,6 +17,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -31,8 +36,9 @@ import java.util.Set;
 
 import static jakarta.persistence.CascadeType.MERGE;
 import static jakarta.persistence.CascadeType.PERSIST;
-import static jakarta.persistence.FetchType.EAGER;
+import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.UUID;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
 @Getter
@@ -41,8 +47,13 @@ import static jakarta.persistence.GenerationType.UUID;
 @NoArgsConstructor
 @Builder
 @Table(name = "user_credentials")
+@Cache(usage = READ_WRITE)
+@NaturalIdCache
+@NamedEntityGraph(name = UserCredentials.WITH_ROLES, attributeNodes = @NamedAttributeNode("roles"))
 @EntityListeners(AuditingEntityListener.class)
 public class UserCredentials implements UserDetails {
+    public static final String WITH_ROLES = "UserCredentials.withRoles";
+
     @Id
     @GeneratedValue(strategy = UUID)
     @Column(name = "id", updatable = false, nullable = false)
@@ -54,6 +65,7 @@ public class UserCredentials implements UserDetails {
     @Column(name = "last_name", nullable = false)
     private String lastName;
 
+    @NaturalId(mutable = true)
     @Column(name = "email", unique = true, nullable = false)
     @Email(message = "VALIDATION.USER.EMAIL.FORMAT")
     private String email;
@@ -86,8 +98,9 @@ public class UserCredentials implements UserDetails {
                     PERSIST,
                     MERGE
             },
-            fetch = EAGER
+            fetch = LAZY
     )
+    @Cache(usage = READ_WRITE)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
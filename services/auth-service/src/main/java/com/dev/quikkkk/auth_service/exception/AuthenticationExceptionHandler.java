@@ -3,6 +3,8 @@ package com.dev.quikkkk.auth_service.exception;
 import com.dev.quikkkk.auth_service.dto.response.ErrorResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -11,11 +13,15 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 @RestControllerAdvice
 @RequiredArgsConstructor
 @Slf4j
 public class AuthenticationExceptionHandler {
+    @Value("${app.security.password.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
         ErrorResponse body = ErrorResponse
@@ -27,6 +33,12 @@ public class AuthenticationExceptionHandler {
         log.info("Business Exception: {}", ex.getMessage());
         log.debug(ex.getMessage(), ex);
 
+        if (ex.getErrorCode().getStatus() == SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(body);
+        }
+
         return ResponseEntity.status(
                 ex.getErrorCode().getStatus() != null
                         ? ex.getErrorCode().getStatus()
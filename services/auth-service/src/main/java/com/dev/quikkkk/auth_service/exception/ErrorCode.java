@@ -29,7 +29,9 @@ public enum ErrorCode {
     INVALID_TOKEN("INVALID_TOKEN", "Invalid or expired token", HttpStatus.UNAUTHORIZED),
     TOKEN_EXPIRED("TOKEN_EXPIRED", "Token has expired", HttpStatus.UNAUTHORIZED),
     PASSWORD_RESET_TOKEN_INVALID("PASSWORD_RESET_TOKEN_INVALID", "Invalid or expired password reset token", HttpStatus.BAD_REQUEST),
-    PASSWORD_RESET_TOKEN_USED("PASSWORD_RESET_TOKEN_USED", "Password reset token already used", HttpStatus.BAD_REQUEST);
+    PASSWORD_RESET_TOKEN_USED("PASSWORD_RESET_TOKEN_USED", "Password reset token already used", HttpStatus.BAD_REQUEST),
+    SERVICE_OVERLOADED("SERVICE_OVERLOADED", "Service is temporarily overloaded, please retry later", HttpStatus.SERVICE_UNAVAILABLE),
+    INTROSPECTION_BATCH_TOO_LARGE("INTROSPECTION_BATCH_TOO_LARGE", "Too many tokens in one introspection request", HttpStatus.PAYLOAD_TOO_LARGE);
 
     private final String code;
     private final String defaultMessage;
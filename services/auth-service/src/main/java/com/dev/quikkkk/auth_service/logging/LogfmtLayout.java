@@ -0,0 +1,96 @@
+package com.dev.quikkkk.auth_service.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * One logfmt line per event: {@code ts level app logger thread}, every MDC entry (trace ids, request path),
+ * then the redacted message and, if present, the exception with its stack trace escaped onto the same line.
+ */
+public class LogfmtLayout extends LayoutBase<ILoggingEvent> {
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private String app;
+    private boolean includeStackTrace = true;
+
+    public void setApp(String app) {
+        this.app = app;
+    }
+
+    public void setIncludeStackTrace(boolean includeStackTrace) {
+        this.includeStackTrace = includeStackTrace;
+    }
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringBuilder line = buffers.get();
+        line.setLength(0);
+
+        line.append("ts=");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), line);
+        field(line, "level", event.getLevel().toString());
+        if (app != null && !app.isEmpty()) field(line, "app", app);
+        field(line, "logger", event.getLoggerName());
+        field(line, "thread", event.getThreadName());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) mdc.forEach((key, value) -> field(line, key, value));
+
+        field(line, "msg", SecretRedactor.redact(event.getFormattedMessage()));
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            field(line, "error", throwable.getClassName());
+            if (throwable.getMessage() != null) field(line, "error_msg", SecretRedactor.redact(throwable.getMessage()));
+            if (includeStackTrace) field(line, "stack", SecretRedactor.redact(ThrowableProxyUtil.asString(throwable)));
+        }
+
+        line.append(CoreConstants.LINE_SEPARATOR);
+        String result = line.toString();
+        if (line.capacity() > MAX_RETAINED_CAPACITY) buffers.remove();
+
+        return result;
+    }
+
+    private static void field(StringBuilder line, String key, String value) {
+        line.append(' ').append(key).append('=');
+        if (value == null) return;
+
+        if (!needsQuoting(value)) {
+            line.append(value);
+            return;
+        }
+
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        if (value.isEmpty()) return true;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c == '=' || c == '"' || c == '\\') return true;
+        }
+        return false;
+    }
+}
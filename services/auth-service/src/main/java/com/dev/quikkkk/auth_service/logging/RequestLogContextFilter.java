@@ -0,0 +1,36 @@
+package com.dev.quikkkk.auth_service.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLogContextFilter extends OncePerRequestFilter {
+    private static final String METHOD_KEY = "method";
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        MDC.put(METHOD_KEY, request.getMethod());
+        MDC.put(SamplingTurboFilter.PATH_KEY, request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(METHOD_KEY);
+            MDC.remove(SamplingTurboFilter.PATH_KEY);
+        }
+    }
+}
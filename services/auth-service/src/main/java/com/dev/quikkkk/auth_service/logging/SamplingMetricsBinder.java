@@ -0,0 +1,30 @@
+package com.dev.quikkkk.auth_service.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SamplingMetricsBinder implements MeterBinder {
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) return;
+
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (!(filter instanceof SamplingTurboFilter sampling)) continue;
+
+            for (SamplingRule rule : sampling.getRules()) {
+                FunctionCounter.builder("logging.sampling.dropped", rule, SamplingRule::getDropped)
+                        .description("Log events dropped by sampling or rate caps")
+                        .tag("logger", rule.getLogger() == null ? "*" : rule.getLogger())
+                        .tag("path", rule.getPath() == null ? "*" : rule.getPath())
+                        .register(registry);
+            }
+        }
+    }
+}
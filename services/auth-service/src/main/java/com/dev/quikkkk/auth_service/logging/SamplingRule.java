@@ -0,0 +1,89 @@
+package com.dev.quikkkk.auth_service.logging;
+
+import ch.qos.logback.classic.Level;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Matches events by logger name prefix and/or request path prefix (the {@code path} MDC entry) at or below
+ * {@link #setLevel(String) level}, keeps {@code sampleRate} of them and at most {@code maxPerSecond} per
+ * second. Unset criteria match everything; a {@code maxPerSecond} of 0 means no cap.
+ */
+public class SamplingRule {
+    private String logger;
+    private String path;
+    private Level level = Level.INFO;
+    private double sampleRate = 1.0;
+    private int maxPerSecond;
+
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public String getLogger() {
+        return logger;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    boolean hasPath() {
+        return path != null && !path.isEmpty();
+    }
+
+    void validate() {
+        if (sampleRate < 0 || sampleRate > 1) throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        if (maxPerSecond < 0) throw new IllegalArgumentException("maxPerSecond must not be negative");
+    }
+
+    boolean matches(String loggerName, Level eventLevel, String requestPath) {
+        if (!level.isGreaterOrEqual(eventLevel)) return false;
+        if (logger != null && !logger.isEmpty() && !loggerName.startsWith(logger)) return false;
+        return !hasPath() || requestPath != null && requestPath.startsWith(path);
+    }
+
+    boolean admit(long nowMillis) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        if (maxPerSecond > 0 && !withinCap(nowMillis / 1000)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean withinCap(long second) {
+        long current = window.get();
+        if (current != second && window.compareAndSet(current, second)) admitted.set(0);
+        return admitted.incrementAndGet() <= maxPerSecond;
+    }
+}
@@ -0,0 +1,65 @@
+package com.dev.quikkkk.auth_service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-logger and per-endpoint sampling with rate caps. Runs before Logback creates the event, so a dropped
+ * line costs a prefix check and a random draw. The first matching {@link SamplingRule} decides; events no
+ * rule matches, level checks ({@code isDebugEnabled()}) and levels that are disabled anyway pass through.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    public static final String PATH_KEY = "path";
+
+    private final List<SamplingRule> rules = new ArrayList<>();
+
+    private SamplingRule[] activeRules = new SamplingRule[0];
+    private boolean pathRules;
+
+    public void addRule(SamplingRule rule) {
+        rules.add(rule);
+    }
+
+    public List<SamplingRule> getRules() {
+        return List.copyOf(rules);
+    }
+
+    @Override
+    public void start() {
+        try {
+            rules.forEach(SamplingRule::validate);
+        } catch (IllegalArgumentException e) {
+            addError("Invalid sampling rule: " + e.getMessage());
+            return;
+        }
+
+        activeRules = rules.toArray(SamplingRule[]::new);
+        pathRules = rules.stream().anyMatch(SamplingRule::hasPath);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String path = pathRules ? MDC.get(PATH_KEY) : null;
+        String loggerName = logger.getName();
+
+        for (SamplingRule rule : activeRules) {
+            if (rule.matches(loggerName, level, path)) {
+                return rule.admit(System.currentTimeMillis()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+            }
+        }
+
+        return FilterReply.NEUTRAL;
+    }
+}
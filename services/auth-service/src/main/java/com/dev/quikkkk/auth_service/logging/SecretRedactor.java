@@ -0,0 +1,41 @@
+package com.dev.quikkkk.auth_service.logging;
+
+import java.util.regex.Pattern;
+
+/**
+ * Masks credentials that end up in log messages: JWTs, bearer headers and password, token, secret and code
+ * values written as {@code key=value} or JSON. Messages without a hint of any of them skip the regexes.
+ */
+public final class SecretRedactor {
+    static final String MASK = "***";
+
+    private static final Pattern JWT = Pattern.compile("eyJ[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final Pattern BEARER = Pattern.compile("(?i)(bearer\\s+)[A-Za-z0-9._~+/=-]+");
+    private static final Pattern KEY_VALUE = Pattern.compile(
+            "(?i)\\b((?:confirm|new|old)?password|secret|(?:access|refresh|reset)?token|code)=[^,;)\\s]+");
+    private static final Pattern JSON_FIELD = Pattern.compile(
+            "(?i)(\"(?:(?:confirm|new|old)?password|secret|(?:access|refresh|reset)?token|code)\"\\s*:\\s*)\"[^\"]*\"");
+
+    private SecretRedactor() {
+    }
+
+    public static String redact(String message) {
+        if (message == null || message.isEmpty()) return message;
+
+        String result = message;
+        if (result.contains("eyJ")) result = JWT.matcher(result).replaceAll(MASK);
+        if (containsIgnoreCase(result, "bearer")) result = BEARER.matcher(result).replaceAll("$1" + MASK);
+        if (result.indexOf('=') >= 0) result = KEY_VALUE.matcher(result).replaceAll("$1=" + MASK);
+        if (result.indexOf('"') >= 0) result = JSON_FIELD.matcher(result).replaceAll("$1\"" + MASK + "\"");
+
+        return result;
+    }
+
+    private static boolean containsIgnoreCase(String value, String token) {
+        int last = value.length() - token.length();
+        for (int i = 0; i <= last; i++) {
+            if (value.regionMatches(true, i, token, 0, token.length())) return true;
+        }
+        return false;
+    }
+}
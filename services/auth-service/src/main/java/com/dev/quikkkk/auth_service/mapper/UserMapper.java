@@ -4,8 +4,9 @@ import com.dev.quikkkk.auth_service.dto.request.RegistrationRequest;
 import com.dev.quikkkk.auth_service.dto.request.UpdateUserRoleRequest;
 import com.dev.quikkkk.auth_service.entity.Role;
 import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import com.dev.quikkkk.auth_service.service.IPasswordHashingService;
+import com.dev.quikkkk.auth_service.utils.EmailUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
@@ -13,14 +14,14 @@ import java.util.HashSet;
 @Service
 @RequiredArgsConstructor
 public class UserMapper {
-    private final PasswordEncoder passwordEncoder;
+    private final IPasswordHashingService passwordHashingService;
 
     public UserCredentials toUser(RegistrationRequest request) {
         return UserCredentials.builder()
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .email(EmailUtils.normalize(request.getEmail()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .enabled(true)
                 .locked(false)
                 .expired(false)
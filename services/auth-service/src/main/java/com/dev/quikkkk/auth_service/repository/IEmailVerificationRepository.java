@@ -21,8 +21,17 @@ public interface IEmailVerificationRepository extends JpaRepository<EmailVerific
     List<EmailVerification> findByEmailAndCreatedDateAfter(String email, LocalDateTime dateTime);
 
     @Modifying
-    @Query("DELETE FROM EmailVerification e WHERE e.expiresAt < :now")
-    void deleteExpiredVerifications(LocalDateTime now);
+    @Query(value = """
+            DELETE FROM email_verification
+            WHERE id IN (
+                SELECT id FROM email_verification
+                WHERE expires_at < :now
+                ORDER BY expires_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int limit);
 
     @Modifying
     @Query("DELETE FROM EmailVerification e WHERE e.userId = :userId")
@@ -0,0 +1,35 @@
+package com.dev.quikkkk.auth_service.repository;
+
+import com.dev.quikkkk.auth_service.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface IOutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockId)", nativeQuery = true)
+    boolean tryAcquireRelayLock(long lockId);
+
+    /**
+     * Unclaimed, unparked events in id order, skipping any event whose key still has an earlier event leased
+     * to a relay or parked, so events for one key are never in flight out of order.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_events e
+            WHERE e.failed_at IS NULL
+              AND (e.claimed_until IS NULL OR e.claimed_until < :now)
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox_events p
+                  WHERE p.message_key = e.message_key
+                    AND p.id < e.id
+                    AND (p.failed_at IS NOT NULL OR p.claimed_until >= :now)
+              )
+            ORDER BY e.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> claimNextBatch(Instant now, int limit);
+}
@@ -14,8 +14,17 @@ public interface IPasswordResetTokenRepository extends JpaRepository<PasswordRes
     Optional<PasswordResetToken> findByTokenAndUsedFalse(String token);
 
     @Modifying
-    @Query("DELETE FROM PasswordResetToken p WHERE p.expiresAt < :now")
-    void deleteExpiredTokens(LocalDateTime now);
+    @Query(value = """
+            DELETE FROM password_reset_tokens
+            WHERE id IN (
+                SELECT id FROM password_reset_tokens
+                WHERE expires_at < :now
+                ORDER BY expires_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int limit);
 
     void deleteByUserId(String userId);
 }
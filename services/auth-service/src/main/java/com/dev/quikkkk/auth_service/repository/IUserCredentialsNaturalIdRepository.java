@@ -0,0 +1,11 @@
+package com.dev.quikkkk.auth_service.repository;
+
+import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import jakarta.transaction.Transactional;
+
+import java.util.Optional;
+
+public interface IUserCredentialsNaturalIdRepository {
+    @Transactional
+    Optional<UserCredentials> findWithRolesByEmail(String email);
+}
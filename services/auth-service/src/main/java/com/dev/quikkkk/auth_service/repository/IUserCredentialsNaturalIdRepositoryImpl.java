@@ -0,0 +1,37 @@
+package com.dev.quikkkk.auth_service.repository;
+
+import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import com.dev.quikkkk.auth_service.utils.EmailUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class IUserCredentialsNaturalIdRepositoryImpl implements IUserCredentialsNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<UserCredentials> findWithRolesByEmail(String email) {
+        Optional<UserCredentials> user = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(UserCredentials.class)
+                .loadOptional(EmailUtils.normalize(email));
+
+        if (user.isEmpty()) {
+            user = entityManager.createQuery(
+                            "SELECT u FROM UserCredentials u WHERE lower(u.email) = lower(:email)",
+                            UserCredentials.class
+                    )
+                    .setParameter("email", email)
+                    .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(UserCredentials.WITH_ROLES))
+                    .getResultStream()
+                    .findFirst();
+        }
+
+        user.ifPresent(userCredentials -> Hibernate.initialize(userCredentials.getRoles()));
+        return user;
+    }
+}
@@ -1,16 +1,20 @@
 package com.dev.quikkkk.auth_service.repository;
 
 import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface IUserCredentialsRepository extends JpaRepository<UserCredentials, String> {
-    boolean existsByEmailIgnoreCase(String email);
-
-    Optional<UserCredentials> findByEmailIgnoreCase(String email);
+public interface IUserCredentialsRepository extends JpaRepository<UserCredentials, String>, IUserCredentialsNaturalIdRepository {
+    boolean existsByEmail(String email);
 
     Optional<UserCredentials> findByEmail(String email);
+
+    @Query("SELECT u.email FROM UserCredentials u WHERE u.email > :after ORDER BY u.email")
+    List<String> findEmailsAfter(String after, Limit limit);
 }
@@ -1,6 +1,11 @@
 package com.dev.quikkkk.auth_service.security;
 
 import com.dev.quikkkk.auth_service.service.IBruteForceProtectionService;
+import com.dev.quikkkk.auth_service.utils.NetworkUtils;
+import com.dev.quikkkk.auth_service.utils.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,18 +13,46 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
-import static jakarta.servlet.http.HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class BruteForceProtectionFilter extends OncePerRequestFilter {
     private final IBruteForceProtectionService service;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.rate-limit.local.capacity:20}")
+    private int capacity;
+
+    @Value("${app.security.rate-limit.local.refill-per-second:5}")
+    private double refillPerSecond;
+
+    @Value("${app.security.rate-limit.local.max-tracked-clients:100000}")
+    private long maxTrackedClients;
+
+    @Value("${app.security.rate-limit.local.trusted-proxies:127.0.0.1,0:0:0:0:0:0:0:1}")
+    private Set<String> trustedProxies;
+
+    private TokenBucketRateLimiter localLimiter;
+    private Counter localRejections;
+    private Counter distributedRejections;
+
+    @PostConstruct
+    public void init() {
+        localLimiter = new TokenBucketRateLimiter(capacity, refillPerSecond, maxTrackedClients);
+        localRejections = rejectionCounter("local");
+        distributedRejections = rejectionCounter("distributed");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -28,17 +61,23 @@ public class BruteForceProtectionFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         String requestUri = request.getRequestURI();
-        String clientIp = getClientIp(request);
-
-        log.info("Request URI: {}, Client IP: {}", requestUri, clientIp);
 
         if (requestUri.equals("/api/v1/auth/login") || requestUri.equals("/api/v1/auth/register")) {
-            if (service.isBlocked(clientIp)) {
-                log.warn("Blocked request from IP: {} to {}", clientIp, requestUri);
+            // Keyed on what the proxy saw: a client rotating X-Forwarded-For must not get a fresh bucket each time
+            long waitNanos = localLimiter.tryAcquire(NetworkUtils.getTrustedClientIp(request, trustedProxies));
 
-                response.setStatus(SC_REQUEST_ENTITY_TOO_LARGE);
-                response.getWriter().write("Too many requests. Please try again later.");
+            if (waitNanos > 0) {
+                localRejections.increment();
+                reject(response, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+                return;
+            }
 
+            String clientIp = NetworkUtils.getClientIp(request);
+            LoginAttemptStatus status = service.getStatus(clientIp);
+            if (status.blocked()) {
+                log.warn("Blocked request from IP: {} to {}", clientIp, requestUri);
+                distributedRejections.increment();
+                reject(response, status.retryAfterSeconds());
                 return;
             }
         }
@@ -46,13 +85,15 @@ public class BruteForceProtectionFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) ip = request.getHeader("Proxy-Client-IP");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) ip = request.getHeader("WL-Proxy-Client-IP");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) ip = request.getRemoteAddr();
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(TOO_MANY_REQUESTS.value());
+        response.setHeader(RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.getWriter().write("Too many requests. Please try again later.");
+    }
 
-        return ip;
+    private Counter rejectionCounter(String tier) {
+        return Counter.builder("auth.ratelimit.rejections")
+                .tag("tier", tier)
+                .register(meterRegistry);
     }
 }
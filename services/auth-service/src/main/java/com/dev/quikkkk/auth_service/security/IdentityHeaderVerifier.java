@@ -0,0 +1,77 @@
+package com.dev.quikkkk.auth_service.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Component
+@Slf4j
+public class IdentityHeaderVerifier {
+    public static final String HEADER = "X-Auth-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    public IdentityHeaderVerifier(
+            ObjectMapper objectMapper,
+            @Value("${app.security.identity-header.secret}") String secret
+    ) {
+        byte[] secretBytes = secret.getBytes(UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.security.identity-header.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public Optional<IdentityClaims> verify(String header) {
+        if (header == null) return Optional.empty();
+
+        int separator = header.indexOf('.');
+        if (separator <= 0 || separator == header.length() - 1) return Optional.empty();
+
+        try {
+            String payload = header.substring(0, separator);
+            byte[] signature = DECODER.decode(header.substring(separator + 1));
+            byte[] expected = mac.get().doFinal(payload.getBytes(UTF_8));
+
+            if (!MessageDigest.isEqual(expected, signature)) {
+                log.warn("Rejected identity header with invalid signature");
+                return Optional.empty();
+            }
+
+            IdentityClaims claims = objectMapper.readValue(DECODER.decode(payload), IdentityClaims.class);
+            return claims.isExpired() ? Optional.empty() : Optional.of(claims);
+        } catch (Exception e) {
+            log.debug("Could not read identity header: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
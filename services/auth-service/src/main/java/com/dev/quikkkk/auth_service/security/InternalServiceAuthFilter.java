@@ -0,0 +1,65 @@
+package com.dev.quikkkk.auth_service.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_UNAUTHORIZED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Guards the service-to-service token endpoints: callers must present the shared internal secret. The
+ * gateway does not route these paths, so the secret is the only way in.
+ */
+@Component
+@Slf4j
+public class InternalServiceAuthFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Internal-Secret";
+    public static final String PROTECTED_PATH = "/internal/tokens/";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final byte[] secret;
+
+    public InternalServiceAuthFilter(@Value("${app.security.internal.secret}") String secret) {
+        byte[] secretBytes = secret.getBytes(UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.security.internal.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+
+        this.secret = secretBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(PROTECTED_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+
+        if (presented == null || !MessageDigest.isEqual(secret, presented.getBytes(UTF_8))) {
+            log.warn("Rejected internal request to {} without a valid service secret", request.getRequestURI());
+            response.setStatus(SC_UNAUTHORIZED);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Service authentication required\",\"code\":\"UNAUTHORIZED\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -9,7 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -26,6 +26,7 @@ import static org.apache.http.HttpHeaders.AUTHORIZATION;
 public class JwtFilter extends OncePerRequestFilter {
     private final IJwtService jwtService;
     private final ITokenBlackListService tokenBlackListService;
+    private final IdentityHeaderVerifier identityHeaderVerifier;
 
     @Override
     protected void doFilterInternal(
@@ -43,6 +44,14 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
+        IdentityClaims identity = identityHeaderVerifier.verify(request.getHeader(IdentityHeaderVerifier.HEADER)).orElse(null);
+
+        if (identity != null) {
+            authenticate(request, identity.uid(), identity.email(), identity.authorities());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String authHeader = request.getHeader(AUTHORIZATION);
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -59,25 +68,27 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        String email = jwtService.extractEmail(jwt);
-        String userId = jwtService.extractUserId(jwt);
-
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtService.isTokenValid(jwt, email)) {
-                List<String> roles = jwtService.extractRoles(jwt);
-                List<SimpleGrantedAuthority> authorities = (roles != null) ?
-                        roles.stream()
-                                .map(SimpleGrantedAuthority::new)
-                                .toList() : List.of();
+        TokenIntrospection token = jwtService.introspect(jwt);
 
-                var principal = new UserPrincipal(userId, email, authorities);
-                var authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, authorities);
-
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+        if (token.email() != null && !token.isExpired()) {
+            authenticate(request, token.userId(), token.email(), token.authorities());
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(
+            HttpServletRequest request,
+            String userId,
+            String email,
+            List<GrantedAuthority> authorities
+    ) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) return;
+
+        var principal = new UserPrincipal(userId, email, authorities);
+        var authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
 }
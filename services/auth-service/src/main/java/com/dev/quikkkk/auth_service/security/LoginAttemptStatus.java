@@ -0,0 +1,4 @@
+package com.dev.quikkkk.auth_service.security;
+
+public record LoginAttemptStatus(boolean blocked, int remainingAttempts, long retryAfterSeconds) {
+}
@@ -0,0 +1,14 @@
+package com.dev.quikkkk.auth_service.security;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+public record SigningKey(
+        String keyId,
+        PrivateKey privateKey,
+        PublicKey publicKey
+) {
+    public boolean canSign() {
+        return privateKey != null;
+    }
+}
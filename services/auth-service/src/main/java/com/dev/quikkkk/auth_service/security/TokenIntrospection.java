@@ -0,0 +1,25 @@
+package com.dev.quikkkk.auth_service.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TokenIntrospection(
+        String tokenId,
+        String email,
+        String userId,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt,
+        String tokenType
+) {
+    public boolean isExpired() {
+        return expiresAt != null && !Instant.now().isBefore(expiresAt);
+    }
+
+    public List<String> roles() {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+}
@@ -0,0 +1,4 @@
+package com.dev.quikkkk.auth_service.security;
+
+public record TokenPair(String accessToken, String refreshToken) {
+}
@@ -0,0 +1,66 @@
+package com.dev.quikkkk.auth_service.security;
+
+import com.dev.quikkkk.auth_service.entity.Role;
+import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+public record UserSnapshot(
+        String id,
+        String email,
+        String passwordHash,
+        boolean enabled,
+        boolean locked,
+        boolean expired,
+        List<String> roles,
+        List<GrantedAuthority> authorities
+) implements UserDetails {
+    public static UserSnapshot from(UserCredentials user) {
+        List<String> roles = user.getRoles().stream().map(Role::getName).sorted().toList();
+
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.isEnabled(),
+                user.isLocked(),
+                user.isExpired(),
+                roles,
+                roles.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return !expired;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return !locked;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
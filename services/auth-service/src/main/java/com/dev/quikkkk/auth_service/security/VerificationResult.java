@@ -0,0 +1,16 @@
+package com.dev.quikkkk.auth_service.security;
+
+public record VerificationResult(Status status, String userId) {
+    public static final VerificationResult INVALID = new VerificationResult(Status.INVALID, null);
+    public static final VerificationResult ATTEMPTS_EXCEEDED = new VerificationResult(Status.ATTEMPTS_EXCEEDED, null);
+
+    public static VerificationResult verified(String userId) {
+        return new VerificationResult(Status.VERIFIED, userId);
+    }
+
+    public enum Status {
+        VERIFIED,
+        INVALID,
+        ATTEMPTS_EXCEEDED
+    }
+}
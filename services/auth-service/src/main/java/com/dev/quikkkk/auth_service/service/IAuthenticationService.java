@@ -4,10 +4,9 @@ import com.dev.quikkkk.auth_service.dto.request.LoginRequest;
 import com.dev.quikkkk.auth_service.dto.request.RefreshTokenRequest;
 import com.dev.quikkkk.auth_service.dto.request.RegistrationRequest;
 import com.dev.quikkkk.auth_service.dto.response.AuthenticationResponse;
+import com.dev.quikkkk.auth_service.dto.response.TokenValidationResponse;
 import com.dev.quikkkk.auth_service.entity.UserCredentials;
 
-import java.util.Map;
-
 public interface IAuthenticationService {
     AuthenticationResponse login(LoginRequest request);
 
@@ -23,7 +22,7 @@ public interface IAuthenticationService {
 
     void cleanupExpiredPasswordResetTokens();
 
-    Map<String, Object> validateToken(String token);
+    TokenValidationResponse validateToken(String token);
 
     UserCredentials findUserByEmail(String email);
 }
@@ -1,13 +1,13 @@
 package com.dev.quikkkk.auth_service.service;
 
+import com.dev.quikkkk.auth_service.security.LoginAttemptStatus;
+
 public interface IBruteForceProtectionService {
-    void registerFailedAttempt(String ipAddress);
+    LoginAttemptStatus registerFailedAttempt(String ipAddress);
 
     void registerSuccessfulAttempt(String ipAddress);
 
-    boolean isBlocked(String ipAddress);
-
-    int getRemainingAttempts(String ipAddress);
+    LoginAttemptStatus getStatus(String ipAddress);
 
     void cleanupExpiredBlocks();
 }
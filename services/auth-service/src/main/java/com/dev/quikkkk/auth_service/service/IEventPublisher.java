@@ -0,0 +1,14 @@
+package com.dev.quikkkk.auth_service.service;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface IEventPublisher {
+    CompletableFuture<SendResult<Object, Object>> publish(String topic, String key, SpecificRecord event);
+
+    CompletableFuture<SendResult<Object, Object>> publishSerialized(String topic, String key, byte[] payload);
+
+    byte[] serialize(SpecificRecord event);
+}
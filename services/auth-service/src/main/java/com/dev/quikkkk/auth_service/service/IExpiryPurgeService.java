@@ -0,0 +1,7 @@
+package com.dev.quikkkk.auth_service.service;
+
+import java.util.function.IntUnaryOperator;
+
+public interface IExpiryPurgeService {
+    long purge(String table, IntUnaryOperator deleteBatch);
+}
@@ -1,17 +1,20 @@
 package com.dev.quikkkk.auth_service.service;
 
-import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
 
 import java.util.Date;
 import java.util.List;
 
 public interface IJwtService {
-    String generateAccessToken(UserCredentials userCredentials);
+    String generateAccessToken(UserSnapshot user);
 
-    String generateRefreshToken(UserCredentials userCredentials);
+    String generateRefreshToken(UserSnapshot user);
 
     String refreshAccessToken(String refreshToken);
 
+    TokenIntrospection introspect(String token);
+
     String extractEmail(String token);
 
     String extractUserId(String token);
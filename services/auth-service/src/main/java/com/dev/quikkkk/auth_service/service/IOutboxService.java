@@ -0,0 +1,9 @@
+package com.dev.quikkkk.auth_service.service;
+
+import org.apache.avro.specific.SpecificRecord;
+
+public interface IOutboxService {
+    void enqueue(String topic, String key, SpecificRecord event);
+
+    void relay();
+}
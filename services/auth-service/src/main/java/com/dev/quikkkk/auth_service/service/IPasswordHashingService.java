@@ -0,0 +1,9 @@
+package com.dev.quikkkk.auth_service.service;
+
+public interface IPasswordHashingService {
+    String encode(CharSequence rawPassword);
+
+    boolean matches(CharSequence rawPassword, String encodedPassword);
+
+    boolean upgradeEncoding(String encodedPassword);
+}
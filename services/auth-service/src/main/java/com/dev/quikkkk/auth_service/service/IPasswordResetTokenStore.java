@@ -0,0 +1,12 @@
+package com.dev.quikkkk.auth_service.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IPasswordResetTokenStore {
+    void issue(String userId, String token, Duration ttl);
+
+    Optional<String> consume(String token);
+
+    void purgeExpired();
+}
@@ -0,0 +1,7 @@
+package com.dev.quikkkk.auth_service.service;
+
+public interface IRegisteredEmailService {
+    boolean mightBeRegistered(String email);
+
+    void markRegistered(String email);
+}
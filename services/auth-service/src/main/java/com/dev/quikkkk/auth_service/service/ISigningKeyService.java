@@ -0,0 +1,14 @@
+package com.dev.quikkkk.auth_service.service;
+
+import com.dev.quikkkk.auth_service.security.SigningKey;
+
+import java.security.PublicKey;
+import java.util.Map;
+
+public interface ISigningKeyService {
+    SigningKey getActiveKey();
+
+    PublicKey getVerificationKey(String keyId);
+
+    Map<String, Object> getJwks();
+}
@@ -1,9 +1,13 @@
 package com.dev.quikkkk.auth_service.service;
 
+import java.util.List;
+
 public interface ITokenBlackListService {
     void blacklistToken(String token);
 
     boolean isTokenBlacklisted(String token);
 
+    List<Boolean> areTokensBlacklisted(List<String> tokens);
+
     void cleanupExpiredTokens();
 }
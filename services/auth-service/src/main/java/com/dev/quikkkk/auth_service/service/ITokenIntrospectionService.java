@@ -0,0 +1,14 @@
+package com.dev.quikkkk.auth_service.service;
+
+import com.dev.quikkkk.auth_service.dto.response.TokenValidationResponse;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ITokenIntrospectionService {
+    List<TokenValidationResponse> introspect(List<String> tokens);
+
+    void checkStreamSize(int tokenCount);
+
+    void introspectInChunks(List<String> tokens, Consumer<List<TokenValidationResponse>> chunkConsumer);
+}
@@ -0,0 +1,8 @@
+package com.dev.quikkkk.auth_service.service;
+
+import com.dev.quikkkk.auth_service.security.TokenPair;
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
+
+public interface ITokenIssuingService {
+    TokenPair issueTokens(UserSnapshot user);
+}
@@ -0,0 +1,9 @@
+package com.dev.quikkkk.auth_service.service;
+
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
+
+public interface IUserSnapshotService {
+    UserSnapshot getUser(String email);
+
+    void invalidate(String email);
+}
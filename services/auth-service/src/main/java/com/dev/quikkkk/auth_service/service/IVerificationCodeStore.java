@@ -0,0 +1,15 @@
+package com.dev.quikkkk.auth_service.service;
+
+import com.dev.quikkkk.auth_service.security.VerificationResult;
+
+import java.time.Duration;
+
+public interface IVerificationCodeStore {
+    void issue(String userId, String email, String code, String ipAddress, Duration ttl);
+
+    VerificationResult verify(String email, String code);
+
+    boolean isRecentlyVerified(String email);
+
+    void purgeExpired();
+}
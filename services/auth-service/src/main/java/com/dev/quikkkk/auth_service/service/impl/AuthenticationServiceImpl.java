@@ -1,47 +1,52 @@
 package com.dev.quikkkk.auth_service.service.impl;
 
-import com.dev.quikkkk.auth_service.dto.kafka.PasswordChangedEvent;
-import com.dev.quikkkk.auth_service.dto.kafka.PasswordResetEvent;
-import com.dev.quikkkk.auth_service.dto.kafka.UserLoginEvent;
-import com.dev.quikkkk.auth_service.dto.kafka.UserRegisteredEvent;
 import com.dev.quikkkk.auth_service.dto.request.LoginRequest;
 import com.dev.quikkkk.auth_service.dto.request.RefreshTokenRequest;
 import com.dev.quikkkk.auth_service.dto.request.RegistrationRequest;
 import com.dev.quikkkk.auth_service.dto.response.AuthenticationResponse;
-import com.dev.quikkkk.auth_service.entity.PasswordResetToken;
+import com.dev.quikkkk.auth_service.dto.response.TokenValidationResponse;
 import com.dev.quikkkk.auth_service.entity.Role;
 import com.dev.quikkkk.auth_service.entity.UserCredentials;
 import com.dev.quikkkk.auth_service.exception.BusinessException;
 import com.dev.quikkkk.auth_service.mapper.UserMapper;
-import com.dev.quikkkk.auth_service.repository.IPasswordResetTokenRepository;
 import com.dev.quikkkk.auth_service.repository.IRoleRepository;
 import com.dev.quikkkk.auth_service.repository.IUserCredentialsRepository;
+import com.dev.quikkkk.auth_service.security.LoginAttemptStatus;
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.dev.quikkkk.auth_service.security.TokenPair;
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
 import com.dev.quikkkk.auth_service.service.IAuthenticationService;
 import com.dev.quikkkk.auth_service.service.IBruteForceProtectionService;
 import com.dev.quikkkk.auth_service.service.IEmailVerificationService;
+import com.dev.quikkkk.auth_service.service.IEventPublisher;
 import com.dev.quikkkk.auth_service.service.IJwtService;
+import com.dev.quikkkk.auth_service.service.IOutboxService;
+import com.dev.quikkkk.auth_service.service.IPasswordHashingService;
+import com.dev.quikkkk.auth_service.service.IPasswordResetTokenStore;
+import com.dev.quikkkk.auth_service.service.IRegisteredEmailService;
 import com.dev.quikkkk.auth_service.service.ITokenBlackListService;
+import com.dev.quikkkk.auth_service.service.ITokenIssuingService;
+import com.dev.quikkkk.auth_service.service.IUserSnapshotService;
+import com.dev.quikkkk.auth_service.utils.EmailUtils;
 import com.dev.quikkkk.auth_service.utils.NetworkUtils;
+import com.dev.quikkkk.auth_service.utils.SecretUtils;
+import com.dev.quikkkk.event_schemas.avro.PasswordChangedEvent;
+import com.dev.quikkkk.event_schemas.avro.PasswordResetEvent;
+import com.dev.quikkkk.event_schemas.avro.UserLoginEvent;
+import com.dev.quikkkk.event_schemas.avro.UserRegisteredEvent;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.EMAIL_ALREADY_EXISTS;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.INTERNAL_SERVER_ERROR;
@@ -49,9 +54,8 @@ import static com.dev.quikkkk.auth_service.exception.ErrorCode.INVALID_CREDENTIA
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.INVALID_TOKEN;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.PASSWORD_MISMATCH;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.PASSWORD_RESET_TOKEN_INVALID;
-import static com.dev.quikkkk.auth_service.exception.ErrorCode.PASSWORD_RESET_TOKEN_USED;
+import static com.dev.quikkkk.auth_service.exception.ErrorCode.SERVICE_OVERLOADED;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.TOKEN_REVOKED;
-import static com.dev.quikkkk.auth_service.exception.ErrorCode.TOO_MANY_ATTEMPTS;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.USER_NOT_FOUND;
 
 @Service
@@ -59,18 +63,23 @@ import static com.dev.quikkkk.auth_service.exception.ErrorCode.USER_NOT_FOUND;
 @Slf4j
 public class AuthenticationServiceImpl implements IAuthenticationService {
     private final static String TOKEN_TYPE = "Bearer ";
+    private final static int RESET_TOKEN_BYTES = 32;
+    private final static Duration RESET_TOKEN_TTL = Duration.ofHours(1);
 
     private final IUserCredentialsRepository userRepository;
     private final IRoleRepository roleRepository;
     private final IJwtService jwtService;
+    private final ITokenIssuingService tokenIssuingService;
+    private final IUserSnapshotService userSnapshotService;
+    private final IRegisteredEmailService registeredEmailService;
     private final IBruteForceProtectionService bruteForceProtectionService;
     private final IEmailVerificationService emailVerificationService;
     private final ITokenBlackListService tokenBlackListService;
-    private final IPasswordResetTokenRepository passwordResetTokenRepository;
+    private final IPasswordResetTokenStore passwordResetTokenStore;
     private final UserMapper mapper;
-    private final AuthenticationManager authenticationManager;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-    private final PasswordEncoder passwordEncoder;
+    private final IEventPublisher eventPublisher;
+    private final IOutboxService outboxService;
+    private final IPasswordHashingService passwordHashingService;
 
     @Value("${app.config.frontend-url:http://localhost:3000}")
     private String frontendUrl;
@@ -79,67 +88,55 @@ public class AuthenticationServiceImpl implements IAuthenticationService {
     public AuthenticationResponse login(LoginRequest request) {
         log.info("Login request for email: {}", request.getEmail());
         String clientIp = NetworkUtils.getClientIp().orElseThrow(() -> new BusinessException(INTERNAL_SERVER_ERROR));
-        if (bruteForceProtectionService.isBlocked(clientIp)) throw new BusinessException(TOO_MANY_ATTEMPTS);
 
         try {
-            UserCredentials userCredentials = findUserByEmail(request.getEmail());
-            if (!userCredentials.isEnabled()) {
+            if (!registeredEmailService.mightBeRegistered(request.getEmail())) {
+                throw new BusinessException(INVALID_CREDENTIALS);
+            }
+
+            UserSnapshot user = userSnapshotService.getUser(request.getEmail());
+            if (!user.isEnabled()) {
                 log.warn("User {} is disabled", request.getEmail());
                 throw new BusinessException(INVALID_CREDENTIALS);
             }
 
-            if (userCredentials.isLocked()) {
+            if (user.locked()) {
                 log.warn("User {} is locked", request.getEmail());
                 throw new BusinessException(INVALID_CREDENTIALS);
             }
 
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getEmail(),
-                            request.getPassword()
-                    )
-            );
+            if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+                throw new BusinessException(INVALID_CREDENTIALS);
+            }
 
-            bruteForceProtectionService.registerSuccessfulAttempt(clientIp);
-            CompletableFuture<String> accessTokenFuture = CompletableFuture.supplyAsync(
-                    () -> jwtService.generateAccessToken(userCredentials));
-            CompletableFuture<String> refreshTokenFuture = CompletableFuture.supplyAsync(
-                    () -> jwtService.generateRefreshToken(userCredentials));
+            if (passwordHashingService.upgradeEncoding(user.getPassword())) rehashPassword(user, request.getPassword());
 
-            String accessToken = accessTokenFuture.get();
-            String refreshToken = refreshTokenFuture.get();
+            bruteForceProtectionService.registerSuccessfulAttempt(clientIp);
+            TokenPair tokens = tokenIssuingService.issueTokens(user);
 
             log.info("User {} logged in successfully", request.getEmail());
-            UserLoginEvent event = UserLoginEvent.builder()
-                    .userId(userCredentials.getId())
-                    .timestamp(LocalDateTime.now())
+            UserLoginEvent event = UserLoginEvent.newBuilder()
+                    .setUserId(user.id())
+                    .setTimestamp(LocalDateTime.now())
                     .build();
 
-            log.info("Sending login event to kafka topic");
-            kafkaTemplate.send("user-login-topic", event);
+            eventPublisher.publish("user-login-topic", user.id(), event);
 
-            log.info("Login response: {}", accessToken);
             return AuthenticationResponse.builder()
-                    .accessToken(accessToken)
-                    .refreshToken(refreshToken)
+                    .accessToken(tokens.accessToken())
+                    .refreshToken(tokens.refreshToken())
                     .tokenType(TOKEN_TYPE)
                     .build();
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == SERVICE_OVERLOADED) throw e;
+            throw failedLogin(request.getEmail(), clientIp);
         } catch (Exception e) {
-            bruteForceProtectionService.registerFailedAttempt(clientIp);
-            int remainingAttempts = bruteForceProtectionService.getRemainingAttempts(clientIp);
-
-            log.warn(
-                    "Failed login attempt for user: {} from IP: {}. Remaining attempts: {}",
-                    request.getEmail(), clientIp, remainingAttempts
-            );
-
-            throw new BusinessException(INVALID_CREDENTIALS);
+            throw failedLogin(request.getEmail(), clientIp);
         }
     }
 
     @Override
     public AuthenticationResponse refreshToken(RefreshTokenRequest request) {
-        log.info("Refresh token request: {}", request);
         String newAccessToken = jwtService.refreshAccessToken(request.getRefreshToken());
 
         return AuthenticationResponse.builder()
@@ -152,7 +149,7 @@ public class AuthenticationServiceImpl implements IAuthenticationService {
     @Override
     @Transactional
     public void register(RegistrationRequest request) {
-        log.info("Registration request: {}", request);
+        log.info("Registration request for {}", request.getEmail());
 
         checkUserEmail(request.getEmail());
         checkPasswords(request.getPassword(), request.getConfirmPassword());
@@ -170,19 +167,26 @@ public class AuthenticationServiceImpl implements IAuthenticationService {
         userCredentials.setEmailVerified(false);
 
         log.debug("Saving user: {}", userCredentials);
-        userRepository.save(userCredentials);
+        try {
+            userRepository.saveAndFlush(userCredentials);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Concurrent registration detected for email {}", userCredentials.getEmail());
+            throw new BusinessException(EMAIL_ALREADY_EXISTS);
+        }
+
+        registeredEmailService.markRegistered(userCredentials.getEmail());
         log.info("User {} registered", userCredentials.getEmail());
 
-        UserRegisteredEvent event = UserRegisteredEvent.builder()
-                .userId(userCredentials.getId())
-                .firstName(userCredentials.getFirstName())
-                .lastName(userCredentials.getLastName())
-                .email(userCredentials.getEmail())
-                .role(defaultRole.getName())
-                .timestamp(LocalDateTime.now())
+        UserRegisteredEvent event = UserRegisteredEvent.newBuilder()
+                .setUserId(userCredentials.getId())
+                .setFirstName(userCredentials.getFirstName())
+                .setLastName(userCredentials.getLastName())
+                .setEmail(userCredentials.getEmail())
+                .setRole(defaultRole.getName())
+                .setTimestamp(LocalDateTime.now())
                 .build();
 
-        kafkaTemplate.send("user-registered-topic", event);
+        outboxService.enqueue("user-registered-topic", userCredentials.getId(), event);
         log.info("User registered event sent for user: {}", userCredentials.getId());
 
         String ipAddress = NetworkUtils.getClientIp().orElseThrow(() -> new BusinessException(INTERNAL_SERVER_ERROR));
@@ -195,8 +199,6 @@ public class AuthenticationServiceImpl implements IAuthenticationService {
 
     @Override
     public void logout(String token) {
-        log.info("Logging out user with token: {}", token);
-
         String actualToken = token.startsWith(TOKEN_TYPE) ? token.substring(TOKEN_TYPE.length()).trim() : token;
         tokenBlackListService.blacklistToken(actualToken);
 
@@ -214,130 +216,119 @@ public class AuthenticationServiceImpl implements IAuthenticationService {
             return;
         }
 
-        passwordResetTokenRepository.deleteByUserId(user.getId());
-
-        String token = UUID.randomUUID().toString();
+        String token = SecretUtils.urlSafeToken(RESET_TOKEN_BYTES);
         String resetLink = frontendUrl + "/reset-password?token=" + token;
 
-        PasswordResetToken resetToken = PasswordResetToken.builder()
-                .userId(user.getId())
-                .token(token)
-                .expiresAt(LocalDateTime.now().plusHours(1))
-                .used(false)
-                .createdBy("SYSTEM")
-                .build();
-
-        passwordResetTokenRepository.save(resetToken);
-        PasswordResetEvent event = PasswordResetEvent.builder()
-                .email(email)
-                .resetLink(resetLink)
+        passwordResetTokenStore.issue(user.getId(), token, RESET_TOKEN_TTL);
+        PasswordResetEvent event = PasswordResetEvent.newBuilder()
+                .setEmail(email)
+                .setResetLink(resetLink)
                 .build();
 
-        kafkaTemplate.send("password-reset-topic", event);
+        outboxService.enqueue("password-reset-topic", user.getId(), event);
         log.info("Password reset email sent successfully for user: {}", user.getId());
     }
 
     @Override
     @Transactional
     public void resetPassword(String token, String newPassword) {
-        log.info("Attempting to reset password for token: {}", token);
+        log.info("Attempting to reset password");
 
-        PasswordResetToken resetToken = passwordResetTokenRepository.findByTokenAndUsedFalse(token)
+        String userId = passwordResetTokenStore.consume(token)
                 .orElseThrow(() -> new BusinessException(PASSWORD_RESET_TOKEN_INVALID));
 
-        if (resetToken.isExpired()) {
-            log.warn("Expired password reset token used");
-            throw new BusinessException(PASSWORD_RESET_TOKEN_INVALID);
-        }
-
-        if (resetToken.isUsed()) {
-            log.warn("Already used password reset token");
-            throw new BusinessException(PASSWORD_RESET_TOKEN_USED);
-        }
-
-        UserCredentials user = userRepository.findById(resetToken.getUserId())
+        UserCredentials user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
 
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashingService.encode(newPassword));
         userRepository.save(user);
+        userSnapshotService.invalidate(user.getEmail());
 
-        resetToken.setUsed(true);
-        passwordResetTokenRepository.save(resetToken);
-
-        PasswordChangedEvent event = PasswordChangedEvent.builder()
-                .userId(user.getId())
-                .email(user.getEmail())
-                .timestamp(LocalDateTime.now())
+        PasswordChangedEvent event = PasswordChangedEvent.newBuilder()
+                .setUserId(user.getId())
+                .setEmail(user.getEmail())
+                .setTimestamp(LocalDateTime.now())
                 .build();
 
-        kafkaTemplate.send("password-changed-topic", event);
+        outboxService.enqueue("password-changed-topic", user.getId(), event);
         log.info("Password reset successful for user: {}", user.getId());
     }
 
     @Override
     @Scheduled(cron = "0 0 * * * *")
     public void cleanupExpiredPasswordResetTokens() {
-        log.info("Cleaning up expired password reset tokens");
-        passwordResetTokenRepository.deleteExpiredTokens(LocalDateTime.now());
+        passwordResetTokenStore.purgeExpired();
     }
 
     @Override
-    public Map<String, Object> validateToken(String token) {
-        log.info("Validating token: {}", token);
-
+    public TokenValidationResponse validateToken(String token) {
         if (tokenBlackListService.isTokenBlacklisted(token)) {
             log.warn("Token validation failed: Token is blacklisted");
             throw new BusinessException(TOKEN_REVOKED);
         }
 
         try {
-            String email = jwtService.extractEmail(token);
-            String userId = jwtService.extractUserId(token);
-            List<String> roles = jwtService.extractRoles(token);
+            TokenIntrospection introspection = jwtService.introspect(token);
 
-            if (!jwtService.isTokenValid(token, email)) {
+            if (introspection.email() == null || introspection.isExpired()) {
                 log.warn("Token validation failed: Token is invalid or expired");
                 throw new BusinessException(INVALID_TOKEN);
             }
 
-            Map<String, Object> result = new HashMap<>();
-
-            result.put("valid", true);
-            result.put("userId", userId);
-            result.put("email", email);
-            result.put("roles", roles);
-            result.put("tokenType", extractTokenType());
-
-            log.info("Token validation successful for user: {}", userId);
-            return result;
+            log.debug("Token validation successful for user: {}", introspection.userId());
+            return TokenValidationResponse.valid(introspection);
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Token validation failed with exception: {}", e.getMessage());
+            log.warn("Token validation failed with exception: {}", e.getMessage());
             throw new BusinessException(INVALID_TOKEN);
         }
     }
 
     @Override
     public UserCredentials findUserByEmail(String email) {
-        return userRepository.findByEmailIgnoreCase(email)
+        return userRepository.findByEmail(EmailUtils.normalize(email))
                 .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
     }
 
+    private void rehashPassword(UserSnapshot user, String rawPassword) {
+        log.info("Rehashing password for user {} with the current BCrypt strength", user.id());
+
+        // Best effort: the password already matched, so an overloaded hasher or a failed save must not fail
+        // the login. The next successful login retries the upgrade.
+        try {
+            String encodedPassword = passwordHashingService.encode(rawPassword);
+
+            userRepository.findById(user.id()).ifPresent(userCredentials -> {
+                userCredentials.setPassword(encodedPassword);
+                userRepository.save(userCredentials);
+            });
+            userSnapshotService.invalidate(user.email());
+        } catch (RuntimeException e) {
+            log.warn("Could not rehash password for user {}, keeping the current hash: {}", user.id(), e.getMessage());
+        }
+    }
+
+    private BusinessException failedLogin(String email, String clientIp) {
+        LoginAttemptStatus attemptStatus = bruteForceProtectionService.registerFailedAttempt(clientIp);
+
+        log.warn(
+                "Failed login attempt for user: {} from IP: {}. Remaining attempts: {}",
+                email, clientIp, attemptStatus.remainingAttempts()
+        );
+
+        return new BusinessException(INVALID_CREDENTIALS);
+    }
+
     private void checkUserEmail(String email) {
-        boolean emailExists = userRepository.existsByEmailIgnoreCase(email);
+        String normalizedEmail = EmailUtils.normalize(email);
+        if (!registeredEmailService.mightBeRegistered(normalizedEmail)) return;
+
+        boolean emailExists = userRepository.existsByEmail(normalizedEmail);
         if (emailExists) throw new BusinessException(EMAIL_ALREADY_EXISTS);
     }
 
     private void checkPasswords(String password, String confirmPassword) {
         if (password == null || !password.equals(confirmPassword)) throw new BusinessException(PASSWORD_MISMATCH);
     }
-
-    private String extractTokenType() {
-        try {
-            return "ACCESS_TOKEN";
-        } catch (Exception e) {
-            return "UNKNOWN";
-        }
-    }
 }
@@ -1,13 +1,22 @@
 package com.dev.quikkkk.auth_service.service.impl;
 
+import com.dev.quikkkk.auth_service.security.LoginAttemptStatus;
 import com.dev.quikkkk.auth_service.service.IBruteForceProtectionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
 
 import static java.util.concurrent.TimeUnit.MINUTES;
 
@@ -15,64 +24,81 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 @RequiredArgsConstructor
 @Slf4j
 public class BruteForceProtectionServiceImpl implements IBruteForceProtectionService {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
 
     private static final int MAX_ATTEMPTS = 5;
     private static final int BLOCK_DURATION_IN_MINUTES = 15;
     private static final int ATTEMPT_WINDOW_MINUTES = 5;
     private static final String ATTEMPT_KEY_PREFIX = "login_attempt_";
     private static final String BLOCK_KEY_PREFIX = "blocked_ip_";
+    private static final String FAILED_ATTEMPT_SCRIPT = "scripts/register-failed-attempt.lua";
+
+    private static final LoginAttemptStatus NOT_BLOCKED = new LoginAttemptStatus(false, MAX_ATTEMPTS, 0);
+
+    private final String maxAttempts = String.valueOf(MAX_ATTEMPTS);
+    private final String attemptWindowSeconds = String.valueOf(MINUTES.toSeconds(ATTEMPT_WINDOW_MINUTES));
+    private final String blockDurationSeconds = String.valueOf(MINUTES.toSeconds(BLOCK_DURATION_IN_MINUTES));
+
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> failedAttemptScript;
+    private Timer failedAttemptTimer;
+    private Timer successfulAttemptTimer;
+    private Timer statusTimer;
+
+    @PostConstruct
+    @SuppressWarnings("rawtypes")
+    public void init() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(FAILED_ATTEMPT_SCRIPT)));
+        script.setResultType(List.class);
+        failedAttemptScript = script;
+
+        failedAttemptTimer = redisTimer("register_failed_attempt");
+        successfulAttemptTimer = redisTimer("register_successful_attempt");
+        statusTimer = redisTimer("status");
+    }
 
     @Override
-    public void registerFailedAttempt(String ipAddress) {
-        log.info("Registering failed attempt for IP: {}", ipAddress);
-        String attemptKey = ATTEMPT_KEY_PREFIX + ipAddress;
-        String blockKey = BLOCK_KEY_PREFIX + ipAddress;
-
-        if (redisTemplate.hasKey(blockKey)) return;
-        Long attempts = redisTemplate.opsForValue().increment(attemptKey);
-
-        if (attempts != null && attempts == 1) redisTemplate.expire(attemptKey, ATTEMPT_WINDOW_MINUTES, MINUTES);
-        if (attempts != null && attempts > MAX_ATTEMPTS) {
-            blockIp(ipAddress);
-            redisTemplate.delete(attemptKey);
+    @SuppressWarnings("unchecked")
+    public LoginAttemptStatus registerFailedAttempt(String ipAddress) {
+        List<Long> result = timed(failedAttemptTimer, () -> stringRedisTemplate.execute(
+                failedAttemptScript,
+                List.of(ATTEMPT_KEY_PREFIX + ipAddress, BLOCK_KEY_PREFIX + ipAddress),
+                maxAttempts, attemptWindowSeconds, blockDurationSeconds
+        ));
+
+        if (result == null || result.size() < 3) {
+            log.warn("Unexpected brute force script result for IP {}: {}", ipAddress, result);
+            return NOT_BLOCKED;
         }
+
+        LoginAttemptStatus status = new LoginAttemptStatus(
+                result.get(0) == 1L,
+                result.get(1).intValue(),
+                result.get(2)
+        );
+
+        if (status.blocked()) {
+            log.warn("IP Address {} blocked due to too many failed login attempts", ipAddress);
+        }
+
+        return status;
     }
 
     @Override
     public void registerSuccessfulAttempt(String ipAddress) {
-        String attemptKey = ATTEMPT_KEY_PREFIX + ipAddress;
-        redisTemplate.delete(attemptKey);
+        timed(successfulAttemptTimer, () -> stringRedisTemplate.delete(ATTEMPT_KEY_PREFIX + ipAddress));
     }
 
     @Override
-    public boolean isBlocked(String ipAddress) {
-        String blockKey = BLOCK_KEY_PREFIX + ipAddress;
-        return redisTemplate.hasKey(blockKey);
-    }
+    public LoginAttemptStatus getStatus(String ipAddress) {
+        Long ttl = timed(statusTimer, () -> stringRedisTemplate.getExpire(BLOCK_KEY_PREFIX + ipAddress));
 
-    @Override
-    public int getRemainingAttempts(String ipAddress) {
-        String attemptKey = ATTEMPT_KEY_PREFIX + ipAddress;
-        Object attemptsObj = redisTemplate.opsForValue().get(attemptKey);
-
-        if (attemptsObj == null) return MAX_ATTEMPTS;
-        long attempts;
-
-        if (attemptsObj instanceof Long) {
-            attempts = (Long) attemptsObj;
-        } else if (attemptsObj instanceof Integer) {
-            attempts = ((Integer) attemptsObj).longValue();
-        } else {
-            try {
-                attempts = Long.parseLong(attemptsObj.toString());
-            } catch (NumberFormatException e) {
-                log.warn("Invalid attempts value in Redis: {}", attemptsObj);
-                return MAX_ATTEMPTS;
-            }
-        }
+        if (ttl == null || ttl == -2) return NOT_BLOCKED;
+        long retryAfter = ttl > 0 ? ttl : MINUTES.toSeconds(BLOCK_DURATION_IN_MINUTES);
 
-        return (int) (MAX_ATTEMPTS - attempts);
+        return new LoginAttemptStatus(true, 0, retryAfter);
     }
 
     @Override
@@ -81,12 +107,14 @@ public class BruteForceProtectionServiceImpl implements IBruteForceProtectionSer
         log.info("Running cleanup of expired IP blocks");
     }
 
-    private void blockIp(String ipAddress) {
-        String blockKey = BLOCK_KEY_PREFIX + ipAddress;
-
-        redisTemplate.opsForValue().set(blockKey, Instant.now().toString());
-        redisTemplate.expire(blockKey, BLOCK_DURATION_IN_MINUTES, MINUTES);
+    private <T> T timed(Timer timer, Supplier<T> operation) {
+        return timer.record(operation);
+    }
 
-        log.warn("IP Address {} blocked due to too many failed login attempts", ipAddress);
+    private Timer redisTimer(String operation) {
+        return Timer.builder("auth.bruteforce.redis")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
     }
 }
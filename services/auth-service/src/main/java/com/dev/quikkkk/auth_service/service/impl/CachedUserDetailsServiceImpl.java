@@ -1,49 +1,123 @@
 package com.dev.quikkkk.auth_service.service.impl;
 
-import com.dev.quikkkk.auth_service.entity.UserCredentials;
 import com.dev.quikkkk.auth_service.exception.BusinessException;
 import com.dev.quikkkk.auth_service.repository.IUserCredentialsRepository;
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
+import com.dev.quikkkk.auth_service.service.IUserSnapshotService;
+import com.dev.quikkkk.auth_service.utils.EmailUtils;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.NonNull;
-import org.springframework.cache.annotation.CacheEvict;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
 
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.USER_NOT_FOUND;
-import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Service
-public class CachedUserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class CachedUserDetailsServiceImpl implements UserDetailsService, IUserSnapshotService, MessageListener {
+    private static final String INVALIDATION_CHANNEL = "user-credentials-invalidations";
+
     private final IUserCredentialsRepository repository;
-    private final LoadingCache<@NonNull String, UserCredentials> userCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AsyncLoadingCache<@NonNull String, UserSnapshot> userCache;
 
-    public CachedUserDetailsServiceImpl(IUserCredentialsRepository repository) {
+    public CachedUserDetailsServiceImpl(
+            IUserCredentialsRepository repository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor loaderExecutor,
+            @Value("${app.security.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.security.user-cache.refresh-after:PT1M}") Duration refreshAfter,
+            @Value("${app.security.user-cache.expire-after:PT15M}") Duration expireAfter
+    ) {
         this.repository = repository;
+        this.stringRedisTemplate = stringRedisTemplate;
         this.userCache = Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(15, MINUTES)
-                .build(this::loadUser);
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .recordStats()
+                .executor(loaderExecutor)
+                .buildAsync(this::loadUser);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache.synchronous(), "userDetails");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         try {
-            return userCache.get(email.toLowerCase());
+            return getUser(email);
         } catch (Exception e) {
             throw new UsernameNotFoundException(e.getMessage());
         }
     }
 
-    private UserCredentials loadUser(String email) {
-        return repository.findByEmailIgnoreCase(email)
-                .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
+    @Override
+    public UserSnapshot getUser(String email) {
+        try {
+            return userCache.get(EmailUtils.normalize(email)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    @Override
+    public void invalidate(String email) {
+        String key = EmailUtils.normalize(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation(key);
+                }
+            });
+        } else {
+            publishInvalidation(key);
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        userCache.synchronous().invalidate(new String(message.getBody(), UTF_8));
     }
 
-    @CacheEvict("userCache")
-    public void evictUser(String email) {
-        userCache.invalidate(email.toLowerCase());
+    private void publishInvalidation(String key) {
+        userCache.synchronous().invalidate(key);
+
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast user cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    private UserSnapshot loadUser(String email) {
+        return repository.findWithRolesByEmail(email)
+                .map(UserSnapshot::from)
+                .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
     }
 }
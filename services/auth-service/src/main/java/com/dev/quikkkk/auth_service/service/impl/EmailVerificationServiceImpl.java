@@ -1,42 +1,48 @@
 package com.dev.quikkkk.auth_service.service.impl;
 
-import com.dev.quikkkk.auth_service.dto.kafka.CodeConfirmation;
 import com.dev.quikkkk.auth_service.dto.request.ResendVerificationRequest;
 import com.dev.quikkkk.auth_service.dto.request.VerifyEmailRequest;
-import com.dev.quikkkk.auth_service.entity.EmailVerification;
 import com.dev.quikkkk.auth_service.entity.UserCredentials;
 import com.dev.quikkkk.auth_service.exception.BusinessException;
-import com.dev.quikkkk.auth_service.repository.IEmailVerificationRepository;
 import com.dev.quikkkk.auth_service.repository.IUserCredentialsRepository;
+import com.dev.quikkkk.auth_service.security.VerificationResult;
 import com.dev.quikkkk.auth_service.service.IEmailVerificationService;
+import com.dev.quikkkk.auth_service.service.IOutboxService;
+import com.dev.quikkkk.auth_service.service.IUserSnapshotService;
+import com.dev.quikkkk.auth_service.service.IVerificationCodeStore;
+import com.dev.quikkkk.auth_service.utils.EmailUtils;
+import com.dev.quikkkk.auth_service.utils.SecretUtils;
+import com.dev.quikkkk.event_schemas.avro.CodeConfirmation;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.EMAIL_ALREADY_VERIFIED;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.INVALID_VERIFICATION_CODE;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.MAX_VERIFICATION_ATTEMPTS_EXCEEDED;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.TOO_MANY_EMAIL_ATTEMPTS;
 import static com.dev.quikkkk.auth_service.exception.ErrorCode.USER_NOT_FOUND;
+import static com.dev.quikkkk.auth_service.security.VerificationResult.Status.ATTEMPTS_EXCEEDED;
+import static com.dev.quikkkk.auth_service.security.VerificationResult.Status.VERIFIED;
 import static java.util.concurrent.TimeUnit.HOURS;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailVerificationServiceImpl implements IEmailVerificationService {
-    private final IEmailVerificationRepository verificationRepository;
+    private final IVerificationCodeStore verificationCodeStore;
     private final IUserCredentialsRepository userRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final IOutboxService outboxService;
+    private final IUserSnapshotService userSnapshotService;
     private final RedisTemplate<String, Object> redisTemplate;
 
-    private static final int CODE_EXPIRY_MINUTES = 15;
+    private static final int CODE_LENGTH = 6;
+    private static final Duration CODE_TTL = Duration.ofMinutes(15);
     private static final int MAX_SENDS_PER_HOUR = 3;
     private static final String RATE_LIMIT_KEY_PREFIX = "email_rate_";
 
@@ -44,66 +50,47 @@ public class EmailVerificationServiceImpl implements IEmailVerificationService {
     @Transactional
     public void sendVerificationCode(String userId, String email, String ipAddress) {
         log.info("Sending verification code to user: {}, email: {}", userId, email);
-        if (!canSendEmail(email)) throw new BusinessException(TOO_MANY_EMAIL_ATTEMPTS);
-
-        verificationRepository.deleteByUserId(userId);
-        String code = generateVerificationCode();
-
-        EmailVerification verification = EmailVerification.builder()
-                .userId(userId)
-                .email(email)
-                .code(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(CODE_EXPIRY_MINUTES))
-                .ipAddress(ipAddress)
-                .createdBy("SYSTEM")
-                .build();
+        String normalizedEmail = EmailUtils.normalize(email);
+        if (!canSendEmail(normalizedEmail)) throw new BusinessException(TOO_MANY_EMAIL_ATTEMPTS);
+
+        String code = SecretUtils.numericCode(CODE_LENGTH);
+        verificationCodeStore.issue(userId, normalizedEmail, code, ipAddress, CODE_TTL);
 
-        verificationRepository.save(verification);
-        CodeConfirmation notification = new CodeConfirmation(userId, email, code);
+        CodeConfirmation notification = CodeConfirmation.newBuilder()
+                .setUserId(userId)
+                .setEmail(email)
+                .setCode(code)
+                .build();
 
-        kafkaTemplate.send("code-topic", notification);
-        incrementEmailRateLimit(email);
+        outboxService.enqueue("code-topic", userId, notification);
+        incrementEmailRateLimit(normalizedEmail);
 
         log.info("Verification code sent successfully to user: {}, email: {}", userId, email);
     }
 
     @Override
-    @Transactional
+    @Transactional(dontRollbackOn = BusinessException.class)
     public void verifyEmail(VerifyEmailRequest request) {
-        log.info("Verifying email: {} with code: {}", request.getEmail(), request.getCode());
-
-        EmailVerification verification = verificationRepository
-                .findByEmailAndCodeAndVerifiedFalse(request.getEmail(), request.getCode())
-                .orElseThrow(() -> new BusinessException(INVALID_VERIFICATION_CODE));
+        log.info("Verifying email: {}", request.getEmail());
 
-        if (verification.isExpired()) {
-            log.warn("Verification code for email: {} is expired", request.getEmail());
-            throw new BusinessException(INVALID_VERIFICATION_CODE);
-        }
+        VerificationResult result = verificationCodeStore.verify(EmailUtils.normalize(request.getEmail()), request.getCode());
 
-        if (verification.hasExceededMaxAttempts()) {
+        if (result.status() == ATTEMPTS_EXCEEDED) {
             log.warn("Exceeded max verification attempts for email: {}", request.getEmail());
             throw new BusinessException(MAX_VERIFICATION_ATTEMPTS_EXCEEDED);
         }
 
-        verification.incrementAttempts();
+        if (result.status() != VERIFIED) throw new BusinessException(INVALID_VERIFICATION_CODE);
 
-        if (!verification.getCode().equals(request.getCode())) {
-            verificationRepository.save(verification);
-            throw new BusinessException(INVALID_VERIFICATION_CODE);
-        }
-
-        verification.setVerified(true);
-        verificationRepository.save(verification);
-
-        UserCredentials user = userRepository.findById(verification.getUserId())
+        UserCredentials user = userRepository.findById(result.userId())
                 .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
 
         user.setEmailVerified(true);
         user.setEnabled(true);
         userRepository.save(user);
+        userSnapshotService.invalidate(user.getEmail());
 
-        log.info("Email verified successfully for user: {}", verification.getUserId());
+        log.info("Email verified successfully for user: {}", result.userId());
     }
 
     @Override
@@ -111,7 +98,7 @@ public class EmailVerificationServiceImpl implements IEmailVerificationService {
     public void resendVerificationCode(ResendVerificationRequest request, String ipAddress) {
         log.info("Resending verification code for email: {}", request.getEmail());
 
-        UserCredentials user = userRepository.findByEmail(request.getEmail())
+        UserCredentials user = userRepository.findByEmail(EmailUtils.normalize(request.getEmail()))
                 .orElseThrow(() -> new BusinessException(USER_NOT_FOUND));
 
         if (user.isEmailVerified()) throw new BusinessException(EMAIL_ALREADY_VERIFIED);
@@ -120,17 +107,13 @@ public class EmailVerificationServiceImpl implements IEmailVerificationService {
 
     @Override
     public boolean isEmailRecentlyVerified(String email) {
-        return verificationRepository.existsByEmailAndVerifiedTrueAndCreatedDateAfter(
-                email,
-                LocalDateTime.now().minusHours(1)
-        );
+        return verificationCodeStore.isRecentlyVerified(EmailUtils.normalize(email));
     }
 
     @Override
     @Scheduled(fixedRate = 60 * 60 * 1000)
     public void cleanupExpiredVerifications() {
-        log.info("Cleaning up expired verification codes");
-        verificationRepository.deleteExpiredVerifications(LocalDateTime.now());
+        verificationCodeStore.purgeExpired();
     }
 
     private boolean canSendEmail(String email) {
@@ -157,12 +140,6 @@ public class EmailVerificationServiceImpl implements IEmailVerificationService {
         }
     }
 
-    private String generateVerificationCode() {
-        SecureRandom random = new SecureRandom();
-        int code = 100000 + random.nextInt(900000);
-        return String.valueOf(code);
-    }
-
     private void incrementEmailRateLimit(String email) {
         String key = RATE_LIMIT_KEY_PREFIX + email;
         Long count = redisTemplate.opsForValue().increment(key, 1L);
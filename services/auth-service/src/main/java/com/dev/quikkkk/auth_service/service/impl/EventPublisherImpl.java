@@ -0,0 +1,69 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.exception.BusinessException;
+import com.dev.quikkkk.auth_service.service.IEventPublisher;
+import com.dev.quikkkk.event_schemas.serde.AvroEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.kafka.core.RoutingKafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.dev.quikkkk.auth_service.exception.ErrorCode.INTERNAL_SERVER_ERROR;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventPublisherImpl implements IEventPublisher {
+    private final RoutingKafkaTemplate eventKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private static final AvroEventSerializer<SpecificRecord> SERIALIZER = new AvroEventSerializer<>();
+
+    @Override
+    public CompletableFuture<SendResult<Object, Object>> publish(String topic, String key, SpecificRecord event) {
+        return publishSerialized(topic, key, serialize(event));
+    }
+
+    @Override
+    public CompletableFuture<SendResult<Object, Object>> publishSerialized(String topic, String key, byte[] payload) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<SendResult<Object, Object>> future;
+
+        try {
+            future = eventKafkaTemplate.send(topic, key, payload);
+        } catch (RuntimeException e) {
+            record(sample, topic, e);
+            log.warn("Failed to hand event to Kafka producer for topic {}: {}", topic, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((result, ex) -> {
+            record(sample, topic, ex);
+            if (ex != null) log.warn("Failed to publish event to topic {}: {}", topic, ex.getMessage());
+        });
+    }
+
+    @Override
+    public byte[] serialize(SpecificRecord event) {
+        try {
+            return SERIALIZER.serialize(event);
+        } catch (SerializationException e) {
+            log.error("Failed to serialize event {}: {}", event.getClass().getSimpleName(), e.getMessage());
+            throw new BusinessException(INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void record(Timer.Sample sample, String topic, Throwable error) {
+        sample.stop(Timer.builder("auth.kafka.send")
+                .tag("topic", topic)
+                .tag("result", error == null ? "success" : "failure")
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,91 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.service.IExpiryPurgeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntUnaryOperator;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiryPurgeServiceImpl implements IExpiryPurgeService {
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.cleanup.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${app.cleanup.max-batches-per-run:500}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.cleanup.statement-timeout-seconds:5}")
+    private int statementTimeoutSeconds;
+
+    private TransactionTemplate batchTransaction;
+
+    @PostConstruct
+    public void init() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        batchTransaction.setTimeout(statementTimeoutSeconds);
+    }
+
+    @Override
+    public long purge(String table, IntUnaryOperator deleteBatch) {
+        Counter purged = Counter.builder("auth.cleanup.rows.purged").tag("table", table).register(meterRegistry);
+        Counter batches = Counter.builder("auth.cleanup.batches").tag("table", table).register(meterRegistry);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        long total = 0;
+        int batchCount = 0;
+        boolean drained = false;
+
+        try {
+            while (batchCount < maxBatchesPerRun) {
+                Integer deleted = batchTransaction.execute(status -> deleteBatch.applyAsInt(batchSize));
+                int rows = deleted == null ? 0 : deleted;
+
+                batchCount++;
+                total += rows;
+                purged.increment(rows);
+                batches.increment();
+
+                if (rows < batchSize) {
+                    drained = true;
+                    break;
+                }
+
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Purge of {} interrupted after {} rows", table, total);
+        } finally {
+            sample.stop(Timer.builder("auth.cleanup.duration")
+                    .tag("table", table)
+                    .tag("outcome", drained ? "drained" : "partial")
+                    .register(meterRegistry));
+        }
+
+        if (drained) {
+            log.info("Purged {} expired rows from {} in {} batches", total, table, batchCount);
+        } else {
+            log.warn("Purged {} expired rows from {}, stopping after {} batches, the rest is left for the next run",
+                    total, table, batchCount);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,56 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.entity.PasswordResetToken;
+import com.dev.quikkkk.auth_service.repository.IPasswordResetTokenRepository;
+import com.dev.quikkkk.auth_service.service.IExpiryPurgeService;
+import com.dev.quikkkk.auth_service.service.IPasswordResetTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@ConditionalOnProperty(name = "app.security.ephemeral-store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JpaPasswordResetTokenStoreImpl implements IPasswordResetTokenStore {
+    private final IPasswordResetTokenRepository passwordResetTokenRepository;
+    private final IExpiryPurgeService expiryPurgeService;
+
+    @Override
+    public void issue(String userId, String token, Duration ttl) {
+        passwordResetTokenRepository.deleteByUserId(userId);
+        passwordResetTokenRepository.save(PasswordResetToken.builder()
+                .userId(userId)
+                .token(token)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .used(false)
+                .createdBy("SYSTEM")
+                .build());
+    }
+
+    @Override
+    public Optional<String> consume(String token) {
+        PasswordResetToken resetToken = passwordResetTokenRepository.findByTokenAndUsedFalse(token).orElse(null);
+        if (resetToken == null) return Optional.empty();
+
+        if (resetToken.isExpired()) {
+            log.warn("Expired password reset token used");
+            return Optional.empty();
+        }
+
+        resetToken.setUsed(true);
+        passwordResetTokenRepository.save(resetToken);
+        return Optional.of(resetToken.getUserId());
+    }
+
+    @Override
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        expiryPurgeService.purge("password_reset_tokens", limit -> passwordResetTokenRepository.deleteExpiredBatch(now, limit));
+    }
+}
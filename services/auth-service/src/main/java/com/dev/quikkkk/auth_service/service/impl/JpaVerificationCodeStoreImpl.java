@@ -0,0 +1,73 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.entity.EmailVerification;
+import com.dev.quikkkk.auth_service.repository.IEmailVerificationRepository;
+import com.dev.quikkkk.auth_service.security.VerificationResult;
+import com.dev.quikkkk.auth_service.service.IExpiryPurgeService;
+import com.dev.quikkkk.auth_service.service.IVerificationCodeStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+@ConditionalOnProperty(name = "app.security.ephemeral-store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JpaVerificationCodeStoreImpl implements IVerificationCodeStore {
+    private final IEmailVerificationRepository verificationRepository;
+    private final IExpiryPurgeService expiryPurgeService;
+
+    @Override
+    public void issue(String userId, String email, String code, String ipAddress, Duration ttl) {
+        verificationRepository.deleteByUserId(userId);
+        verificationRepository.save(EmailVerification.builder()
+                .userId(userId)
+                .email(email)
+                .code(code)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .ipAddress(ipAddress)
+                .createdBy("SYSTEM")
+                .build());
+    }
+
+    @Override
+    public VerificationResult verify(String email, String code) {
+        EmailVerification verification = verificationRepository.findByEmailAndVerifiedFalse(email).orElse(null);
+        if (verification == null) return VerificationResult.INVALID;
+
+        if (verification.isExpired()) {
+            log.warn("Verification code for email: {} is expired", email);
+            return VerificationResult.INVALID;
+        }
+
+        if (verification.hasExceededMaxAttempts()) return VerificationResult.ATTEMPTS_EXCEEDED;
+        verification.incrementAttempts();
+
+        if (!verification.getCode().equals(code)) {
+            verificationRepository.save(verification);
+            return VerificationResult.INVALID;
+        }
+
+        verification.setVerified(true);
+        verificationRepository.save(verification);
+        return VerificationResult.verified(verification.getUserId());
+    }
+
+    @Override
+    public boolean isRecentlyVerified(String email) {
+        return verificationRepository.existsByEmailAndVerifiedTrueAndCreatedDateAfter(
+                email,
+                LocalDateTime.now().minusHours(1)
+        );
+    }
+
+    @Override
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        expiryPurgeService.purge("email_verification", limit -> verificationRepository.deleteExpiredBatch(now, limit));
+    }
+}
@@ -1,23 +1,32 @@
 package com.dev.quikkkk.auth_service.service.impl;
 
-import com.dev.quikkkk.auth_service.entity.Role;
-import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import com.dev.quikkkk.auth_service.security.SigningKey;
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
 import com.dev.quikkkk.auth_service.service.IJwtService;
-import com.dev.quikkkk.auth_service.utils.KeyUtils;
+import com.dev.quikkkk.auth_service.service.ISigningKeyService;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import java.security.PrivateKey;
-import java.security.PublicKey;
+import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.concurrent.TimeUnit.MINUTES;
 
@@ -25,146 +34,153 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 public class JwtServiceImpl implements IJwtService {
     private static final String TOKEN_TYPE = "token_type";
     private static final String USER_ID = "userId";
-    private static final String PATH_TO_PRIVATE_KEY = "keys/local-only/private_key.pem";
-    private static final String PATH_TO_PUBLIC_KEY = "keys/local-only/public_key.pem";
-    private static final PrivateKey PRIVATE_KEY;
-    private static final PublicKey PUBLIC_KEY;
-
-    private final Cache<@NonNull String, Claims> claimsCache = Caffeine.newBuilder()
+    private static final String ROLES = "roles";
+    private static final String ACCESS_TOKEN = "ACCESS_TOKEN";
+    private static final String REFRESH_TOKEN = "REFRESH_TOKEN";
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private final ISigningKeyService signingKeyService;
+    private final JwtParser jwtParser;
+    private final Cache<@NonNull String, TokenIntrospection> claimsCache = Caffeine.newBuilder()
             .maximumSize(10000)
             .expireAfterWrite(5, MINUTES)
             .build();
 
-    static {
-        try {
-            PRIVATE_KEY = KeyUtils.loadPrivateKey(PATH_TO_PRIVATE_KEY);
-            PUBLIC_KEY = KeyUtils.loadPublicKey(PATH_TO_PUBLIC_KEY);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load JWT Keys", e);
-        }
-    }
-
     @Value("${app.security.jwt.access-token-expiration}")
     private long accessTokenExpiration;
 
     @Value("${app.security.jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    public JwtServiceImpl(ISigningKeyService signingKeyService) {
+        this.signingKeyService = signingKeyService;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return signingKeyService.getVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
     @Override
-    public String generateAccessToken(UserCredentials userCredentials) {
+    public String generateAccessToken(UserSnapshot user) {
         Map<String, Object> claims = Map.of(
-                TOKEN_TYPE, "ACCESS_TOKEN",
-                USER_ID, userCredentials.getId(),
-                "roles", userCredentials.getRoles().stream().map(Role::getName).toList()
+                TOKEN_TYPE, ACCESS_TOKEN,
+                USER_ID, user.id(),
+                ROLES, user.roles()
         );
 
-        return buildToken(userCredentials.getUsername(), claims, accessTokenExpiration);
+        return buildToken(user.email(), claims, accessTokenExpiration);
     }
 
     @Override
-    public String generateRefreshToken(UserCredentials userCredentials) {
+    public String generateRefreshToken(UserSnapshot user) {
         Map<String, Object> claims = Map.of(
-                TOKEN_TYPE, "REFRESH_TOKEN",
-                USER_ID, userCredentials.getId(),
-                "roles", userCredentials.getRoles().stream().map(Role::getName).toList()
+                TOKEN_TYPE, REFRESH_TOKEN,
+                USER_ID, user.id(),
+                ROLES, user.roles()
         );
 
-        return buildToken(userCredentials.getUsername(), claims, refreshTokenExpiration);
+        return buildToken(user.email(), claims, refreshTokenExpiration);
     }
 
     @Override
     public String refreshAccessToken(String refreshToken) {
-        Claims claims = extractClaims(refreshToken);
-
-        if (!"REFRESH_TOKEN".equals(claims.get(TOKEN_TYPE))) throw new RuntimeException("Invalid token type");
-        if (isTokenExpired(refreshToken)) throw new RuntimeException("Token expired");
+        TokenIntrospection introspection = introspect(refreshToken);
 
-        String email = claims.getSubject();
-        String userId = claims.get(USER_ID).toString();
+        if (!REFRESH_TOKEN.equals(introspection.tokenType())) throw new RuntimeException("Invalid token type");
+        if (introspection.isExpired()) throw new RuntimeException("Token expired");
 
         Map<String, Object> claimsForNewToken = Map.of(
-                TOKEN_TYPE, "ACCESS_TOKEN",
-                USER_ID, userId,
-                "roles", claims.get("roles")
+                TOKEN_TYPE, ACCESS_TOKEN,
+                USER_ID, introspection.userId(),
+                ROLES, introspection.roles()
         );
 
+        return buildToken(introspection.email(), claimsForNewToken, accessTokenExpiration);
+    }
+
+    @Override
+    public TokenIntrospection introspect(String token) {
+        TokenIntrospection introspection = claimsCache.getIfPresent(token);
+        if (introspection != null) return introspection;
 
-        return buildToken(email, claimsForNewToken, accessTokenExpiration);
+        introspection = parseToken(token);
+        claimsCache.put(token, introspection);
+        return introspection;
     }
 
     @Override
     public String extractEmail(String token) {
-        return getCachedClaims(token).getSubject();
+        return introspect(token).email();
     }
 
     @Override
     public String extractUserId(String token) {
-        return getCachedClaims(token).get(USER_ID).toString();
+        return introspect(token).userId();
     }
 
     @Override
     public String extractTokenType(String token) {
-        return getCachedClaims(token).get(TOKEN_TYPE).toString();
+        return introspect(token).tokenType();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
-        return (List<String>) getCachedClaims(token).get("roles");
+        return introspect(token).roles();
     }
 
     @Override
     public Date extractExpiration(String token) {
-        return getCachedClaims(token).getExpiration();
+        TokenIntrospection introspection = introspect(token);
+        return introspection.expiresAt() != null ? Date.from(introspection.expiresAt()) : null;
     }
 
     @Override
     public boolean isTokenValid(String token, String expectedEmail) {
-        String email = extractEmail(token);
-        return email.equals(expectedEmail) && !isTokenExpired(token);
+        TokenIntrospection introspection = introspect(token);
+        return Objects.equals(introspection.email(), expectedEmail) && !introspection.isExpired();
     }
 
     private String buildToken(String email, Map<String, Object> claims, long expiration) {
+        SigningKey signingKey = signingKeyService.getActiveKey();
         return Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
+                .id(UUID.randomUUID().toString())
                 .claims(claims)
                 .subject(email)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(PRIVATE_KEY)
+                .signWith(signingKey.privateKey())
                 .compact();
     }
 
+    private TokenIntrospection parseToken(String token) {
+        Claims claims = extractClaims(token);
+        return new TokenIntrospection(
+                claims.getId(),
+                claims.getSubject(),
+                Objects.toString(claims.get(USER_ID), null),
+                toAuthorities(claims.get(ROLES)),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                Objects.toString(claims.get(TOKEN_TYPE), null)
+        );
+    }
+
     private Claims extractClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(PUBLIC_KEY)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             throw new RuntimeException("Invalid JWT token", e);
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaims(token)
-                .getExpiration()
-                .before(new Date());
-    }
-
-    private Claims getCachedClaims(String token) {
-        return claimsCache.get(token, this::extractClaimsInternal);
-    }
-
-    private Claims extractClaimsInternal(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(PUBLIC_KEY)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (JwtException e) {
-            throw new RuntimeException("Invalid JWT token", e);
-        }
+    private static List<GrantedAuthority> toAuthorities(Object roles) {
+        if (!(roles instanceof Collection<?> names)) return List.of();
+        return names.stream()
+                .map(name -> AUTHORITIES.computeIfAbsent(name.toString(), SimpleGrantedAuthority::new))
+                .toList();
     }
 }
@@ -0,0 +1,222 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.entity.OutboxEvent;
+import com.dev.quikkkk.auth_service.repository.IOutboxEventRepository;
+import com.dev.quikkkk.auth_service.service.IEventPublisher;
+import com.dev.quikkkk.auth_service.service.IOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jakarta.transaction.Transactional.TxType.MANDATORY;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements IOutboxService {
+    private final IOutboxEventRepository repository;
+    private final IEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private static final long RELAY_LOCK_ID = 0x6f7574626f78L;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.lease-ms:30000}")
+    private long leaseMs;
+
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong oldestEventAgeMs = new AtomicLong();
+
+    private Counter published;
+    private Counter failed;
+    private Counter parked;
+    private Timer relayTimer;
+    private TransactionTemplate shortTransaction;
+
+    @PostConstruct
+    public void init() {
+        if (leaseMs <= sendTimeoutMs) {
+            throw new IllegalStateException("app.outbox.lease-ms must be greater than app.outbox.send-timeout-ms");
+        }
+
+        shortTransaction = new TransactionTemplate(transactionManager);
+        shortTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        published = Counter.builder("auth.outbox.events").tag("result", "published").register(meterRegistry);
+        failed = Counter.builder("auth.outbox.events").tag("result", "failed").register(meterRegistry);
+        parked = Counter.builder("auth.outbox.events").tag("result", "parked").register(meterRegistry);
+        relayTimer = Timer.builder("auth.outbox.relay").register(meterRegistry);
+
+        Gauge.builder("auth.outbox.batch.size", lastBatchSize, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("auth.outbox.lag", oldestEventAgeMs, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(MANDATORY)
+    public void enqueue(String topic, String key, SpecificRecord event) {
+        repository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(key)
+                .payload(eventPublisher.serialize(event))
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Claims a batch in one short transaction, sends it with no transaction or connection held, then records
+     * the outcome in a second short transaction. A claim is a lease on the rows, so a relay that dies mid-send
+     * only delays its events until the lease runs out.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:200}")
+    public void relay() {
+        List<OutboxEvent> batch = shortTransaction.execute(status -> claimBatch());
+        if (batch == null) return;
+
+        lastBatchSize.set(batch.size());
+        if (batch.isEmpty()) {
+            oldestEventAgeMs.set(0);
+            return;
+        }
+
+        oldestEventAgeMs.set(Duration.between(batch.getFirst().getCreatedAt(), Instant.now()).toMillis());
+        relayTimer.record(() -> publish(batch));
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        if (!repository.tryAcquireRelayLock(RELAY_LOCK_ID)) return null;
+
+        Instant now = Instant.now();
+        List<OutboxEvent> batch = repository.claimNextBatch(now, batchSize);
+        for (OutboxEvent event : batch) event.setClaimedUntil(now.plusMillis(leaseMs));
+        return batch;
+    }
+
+    /**
+     * Events sharing a key are sent one at a time, the next only after the previous one was acknowledged, so a
+     * failure can never be overtaken by a later event for the same user. Different keys go out in parallel.
+     */
+    private void publish(List<OutboxEvent> batch) {
+        Map<Object, ArrayDeque<OutboxEvent>> queues = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            // Events without a key have no ordering to keep, each one is its own queue
+            Object key = event.getMessageKey() != null ? event.getMessageKey() : event.getId();
+            queues.computeIfAbsent(key, k -> new ArrayDeque<>()).add(event);
+        }
+
+        List<OutboxEvent> delivered = new ArrayList<>(batch.size());
+        List<OutboxEvent> failures = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        boolean interrupted = false;
+
+        while (!queues.isEmpty() && !interrupted && System.nanoTime() < deadline) {
+            List<ArrayDeque<OutboxEvent>> round = new ArrayList<>(queues.values());
+            List<CompletableFuture<SendResult<Object, Object>>> sends = new ArrayList<>(round.size());
+            for (ArrayDeque<OutboxEvent> queue : round) {
+                OutboxEvent head = queue.peek();
+                sends.add(eventPublisher.publishSerialized(head.getTopic(), head.getMessageKey(), head.getPayload()));
+            }
+
+            try {
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                log.warn("Outbox relay interrupted while waiting for sends");
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Outbox relay round did not fully complete: {}", e.getMessage());
+            }
+
+            for (int i = 0; i < round.size(); i++) {
+                ArrayDeque<OutboxEvent> queue = round.get(i);
+                CompletableFuture<SendResult<Object, Object>> send = sends.get(i);
+
+                if (send.isDone() && !send.isCompletedExceptionally()) {
+                    delivered.add(queue.poll());
+                } else {
+                    // The rest of this key waits for the next run, behind the retry of its head
+                    if (!interrupted) failures.add(queue.peek());
+                    queue.clear();
+                }
+            }
+
+            queues.values().removeIf(ArrayDeque::isEmpty);
+        }
+
+        Set<OutboxEvent> deliveredSet = new HashSet<>(delivered);
+        List<OutboxEvent> released = new ArrayList<>(batch.size() - delivered.size());
+        for (OutboxEvent event : batch) {
+            if (!deliveredSet.contains(event)) released.add(event);
+        }
+
+        shortTransaction.executeWithoutResult(status -> complete(delivered, failures, released));
+
+        published.increment(delivered.size());
+        failed.increment(failures.size());
+
+        if (delivered.size() < batch.size()) {
+            log.warn("Outbox relay published {} of {} events, the rest will be retried", delivered.size(), batch.size());
+        }
+    }
+
+    private void complete(List<OutboxEvent> delivered, List<OutboxEvent> failures, List<OutboxEvent> released) {
+        repository.deleteAllInBatch(delivered);
+
+        Set<OutboxEvent> failed = new HashSet<>(failures);
+        for (OutboxEvent event : released) {
+            event.setClaimedUntil(null);
+            if (failed.contains(event)) recordFailedAttempt(event);
+        }
+        repository.saveAll(released);
+    }
+
+    private void recordFailedAttempt(OutboxEvent event) {
+        event.setAttempts(event.getAttempts() + 1);
+        if (event.getAttempts() < maxAttempts) return;
+
+        event.setFailedAt(Instant.now());
+        parked.increment();
+        log.error("Outbox event {} for topic {} failed {} times and was parked; later events with key {} are held "
+                + "until it is resolved", event.getId(), event.getTopic(), event.getAttempts(), event.getMessageKey());
+    }
+}
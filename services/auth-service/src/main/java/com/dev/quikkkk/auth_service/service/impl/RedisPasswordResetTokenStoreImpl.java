@@ -0,0 +1,51 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.service.IPasswordResetTokenStore;
+import com.dev.quikkkk.auth_service.utils.SecretUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+@ConditionalOnProperty(name = "app.security.ephemeral-store.type", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisPasswordResetTokenStoreImpl implements IPasswordResetTokenStore {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String TOKEN_KEY_PREFIX = "password_reset_token_";
+    private static final String USER_KEY_PREFIX = "password_reset_user_";
+
+    @Override
+    public void issue(String userId, String token, Duration ttl) {
+        String tokenHash = SecretUtils.sha256(token);
+        String previous = stringRedisTemplate.opsForValue().getAndSet(USER_KEY_PREFIX + userId, tokenHash);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            if (previous != null) redis.del(TOKEN_KEY_PREFIX + previous);
+            redis.set(TOKEN_KEY_PREFIX + tokenHash, userId, Expiration.from(ttl), SetOption.upsert());
+            redis.expire(USER_KEY_PREFIX + userId, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<String> consume(String token) {
+        String userId = stringRedisTemplate.opsForValue().getAndDelete(TOKEN_KEY_PREFIX + SecretUtils.sha256(token));
+        if (userId != null) stringRedisTemplate.delete(USER_KEY_PREFIX + userId);
+        return Optional.ofNullable(userId);
+    }
+
+    @Override
+    public void purgeExpired() {
+        // Both keys are written with the token TTL, Redis expires them on its own
+    }
+}
@@ -0,0 +1,120 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.security.VerificationResult;
+import com.dev.quikkkk.auth_service.service.IVerificationCodeStore;
+import com.dev.quikkkk.auth_service.utils.SecretUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.HOURS;
+
+@Service
+@ConditionalOnProperty(name = "app.security.ephemeral-store.type", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisVerificationCodeStoreImpl implements IVerificationCodeStore {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final String PENDING_KEY_PREFIX = "verification_code_";
+    private static final String VERIFIED_KEY_PREFIX = "email_verified_";
+    private static final String VERIFY_SCRIPT = "scripts/verify-code.lua";
+
+    private final String maxAttempts = String.valueOf(MAX_ATTEMPTS);
+    private final String verifiedMarkerSeconds = String.valueOf(HOURS.toSeconds(1));
+
+    @Value("${app.security.ephemeral-store.code-secret}")
+    private String codeSecret;
+
+    private byte[] codeKey;
+
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> verifyScript;
+
+    @PostConstruct
+    @SuppressWarnings("rawtypes")
+    public void init() {
+        codeKey = codeSecret.getBytes(UTF_8);
+        if (codeKey.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.security.ephemeral-store.code-secret must be at least "
+                    + MIN_SECRET_BYTES + " bytes");
+        }
+
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(VERIFY_SCRIPT)));
+        script.setResultType(List.class);
+        verifyScript = script;
+    }
+
+    @Override
+    public void issue(String userId, String email, String code, String ipAddress, Duration ttl) {
+        String key = PENDING_KEY_PREFIX + email;
+
+        Map<String, String> pending = Map.of(
+                "userId", userId,
+                "codeHash", codeHash(email, code),
+                "attempts", "0",
+                "ipAddress", ipAddress == null ? "" : ipAddress
+        );
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.hMSet(key, pending);
+            redis.expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VerificationResult verify(String email, String code) {
+        List<Object> result = stringRedisTemplate.execute(
+                verifyScript,
+                List.of(PENDING_KEY_PREFIX + email, VERIFIED_KEY_PREFIX + email),
+                codeHash(email, code), maxAttempts, verifiedMarkerSeconds
+        );
+
+        if (result == null || result.size() < 2) {
+            log.warn("Unexpected verification script result for email {}: {}", email, result);
+            return VerificationResult.INVALID;
+        }
+
+        return switch (((Long) result.get(0)).intValue()) {
+            case 1 -> VerificationResult.verified((String) result.get(1));
+            case 2 -> VerificationResult.ATTEMPTS_EXCEEDED;
+            default -> VerificationResult.INVALID;
+        };
+    }
+
+    @Override
+    public boolean isRecentlyVerified(String email) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(VERIFIED_KEY_PREFIX + email));
+    }
+
+    @Override
+    public void purgeExpired() {
+        // Pending codes and verified markers carry a TTL, Redis expires them on its own
+    }
+
+    // Keyed so that a dump of Redis does not let the six-digit code space be enumerated offline
+    private String codeHash(String email, String code) {
+        return SecretUtils.hmacSha256(codeKey, email + ':' + code);
+    }
+}
@@ -0,0 +1,157 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.repository.IUserCredentialsRepository;
+import com.dev.quikkkk.auth_service.service.IRegisteredEmailService;
+import com.dev.quikkkk.auth_service.utils.BloomFilter;
+import com.dev.quikkkk.auth_service.utils.EmailUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegisteredEmailServiceImpl implements IRegisteredEmailService, MessageListener {
+    private final IUserCredentialsRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private static final String REGISTRATION_CHANNEL = "registered-emails";
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    @Value("${app.security.email-filter.expected-users:1000000}")
+    private long expectedUsers;
+
+    @Value("${app.security.email-filter.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private final Object filterLock = new Object();
+    private volatile BloomFilter registeredEmails;
+    private BloomFilter rebuildingFilter;
+    private volatile boolean filterLoaded;
+
+    private Counter filterMisses;
+    private Counter filterHits;
+
+    @PostConstruct
+    public void init() {
+        registeredEmails = new BloomFilter(expectedUsers, falsePositiveRate);
+        filterMisses = lookupCounter("filter_miss");
+        filterHits = lookupCounter("filter_hit");
+        listenerContainer.addMessageListener(this, new ChannelTopic(REGISTRATION_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRegisteredEmails() {
+        rebuildFilter();
+    }
+
+    @Override
+    public boolean mightBeRegistered(String email) {
+        if (!filterLoaded) return true;
+
+        boolean mightContain = registeredEmails.mightContain(EmailUtils.normalize(email));
+        (mightContain ? filterHits : filterMisses).increment();
+        return mightContain;
+    }
+
+    @Override
+    public void markRegistered(String email) {
+        String normalized = EmailUtils.normalize(email);
+        addToFilter(normalized);
+
+        try {
+            stringRedisTemplate.convertAndSend(REGISTRATION_CHANNEL, normalized);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast registered email: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilter(new String(message.getBody(), UTF_8));
+    }
+
+    /**
+     * Registrations on other instances only reach this filter through pub/sub, which does not redeliver a
+     * message missed during a reconnect. A missing email makes login and password reset treat a real user as
+     * unknown, so the filter is rebuilt from the database periodically to bound how long such a gap lasts.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.security.email-filter.rebuild-interval:600000}",
+            initialDelayString = "${app.security.email-filter.rebuild-interval:600000}"
+    )
+    public void refreshFilter() {
+        if (filterLoaded) rebuildFilter();
+    }
+
+    @Scheduled(fixedDelay = 30 * 1000, initialDelay = 30 * 1000)
+    public void retryFilterLoad() {
+        if (!filterLoaded) rebuildFilter();
+    }
+
+    private void rebuildFilter() {
+        BloomFilter filter = new BloomFilter(expectedUsers, falsePositiveRate);
+        synchronized (filterLock) {
+            rebuildingFilter = filter;
+        }
+
+        try {
+            long entries = 0;
+            String after = "";
+            List<String> batch;
+
+            do {
+                batch = userRepository.findEmailsAfter(after, Limit.of(LOAD_BATCH_SIZE));
+                for (String email : batch) filter.put(EmailUtils.normalize(email));
+
+                entries += batch.size();
+                if (!batch.isEmpty()) after = batch.getLast();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            synchronized (filterLock) {
+                registeredEmails = filter;
+                rebuildingFilter = null;
+            }
+            filterLoaded = true;
+            log.info("Registered email filter loaded with {} entries", entries);
+        } catch (RuntimeException e) {
+            synchronized (filterLock) {
+                rebuildingFilter = null;
+            }
+            log.warn("Could not load registered email filter, {}: {}",
+                    filterLoaded ? "keeping previous filter" : "falling back to database lookups", e.getMessage());
+        }
+    }
+
+    private void addToFilter(String email) {
+        synchronized (filterLock) {
+            registeredEmails.put(email);
+            if (rebuildingFilter != null) rebuildingFilter.put(email);
+        }
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("auth.email.filter.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,104 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.security.SigningKey;
+import com.dev.quikkkk.auth_service.service.ISigningKeyService;
+import com.dev.quikkkk.auth_service.utils.KeyUtils;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class SigningKeyServiceImpl implements ISigningKeyService {
+    private static final String PRIVATE_KEY_FILE = "private_key.pem";
+    private static final String PUBLIC_KEY_FILE = "public_key.pem";
+
+    private final Map<String, SigningKey> keys;
+    private final SigningKey activeKey;
+    private final String legacyKeyId;
+    private final Map<String, Object> jwks;
+
+    public SigningKeyServiceImpl(
+            @Value("${app.security.jwt.active-key-id:local-only}") String activeKeyId,
+            @Value("${app.security.jwt.key-ids:${app.security.jwt.active-key-id:local-only}}") List<String> keyIds,
+            @Value("${app.security.jwt.legacy-key-id:local-only}") String legacyKeyId,
+            @Value("${app.security.jwt.key-location:keys}") String keyLocation
+    ) {
+        Map<String, SigningKey> loadedKeys = new LinkedHashMap<>();
+
+        for (String keyId : keyIds) {
+            loadedKeys.put(keyId, loadKey(keyLocation, keyId));
+        }
+
+        if (!loadedKeys.containsKey(activeKeyId)) {
+            loadedKeys.put(activeKeyId, loadKey(keyLocation, activeKeyId));
+        }
+
+        this.keys = Map.copyOf(loadedKeys);
+        this.activeKey = keys.get(activeKeyId);
+        this.legacyKeyId = legacyKeyId;
+        this.jwks = toJwks(loadedKeys.values());
+
+        if (!activeKey.canSign()) {
+            throw new IllegalStateException("Active JWT key has no private key: " + activeKeyId);
+        }
+
+        log.info("Loaded JWT keys {}, signing with '{}' ({})",
+                loadedKeys.keySet(), activeKeyId, activeKey.publicKey().getAlgorithm());
+    }
+
+    @Override
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    @Override
+    public PublicKey getVerificationKey(String keyId) {
+        SigningKey key = keys.get(keyId != null ? keyId : legacyKeyId);
+        if (key == null) throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+        return key.publicKey();
+    }
+
+    @Override
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    private static SigningKey loadKey(String keyLocation, String keyId) {
+        String directory = keyLocation + "/" + keyId + "/";
+
+        try {
+            PublicKey publicKey = KeyUtils.loadPublicKey(directory + PUBLIC_KEY_FILE);
+            PrivateKey privateKey = KeyUtils.exists(directory + PRIVATE_KEY_FILE)
+                    ? KeyUtils.loadPrivateKey(directory + PRIVATE_KEY_FILE)
+                    : null;
+
+            return new SigningKey(keyId, privateKey, publicKey);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load JWT key: " + keyId, e);
+        }
+    }
+
+    private static Map<String, Object> toJwks(Iterable<SigningKey> signingKeys) {
+        List<Map<String, ?>> publicJwks = new ArrayList<>();
+
+        for (SigningKey key : signingKeys) {
+            publicJwks.add(new LinkedHashMap<>(Jwks.builder()
+                    .key(key.publicKey())
+                    .id(key.keyId())
+                    .publicKeyUse("sig")
+                    .build()));
+        }
+
+        return Map.of("keys", List.copyOf(publicJwks));
+    }
+}
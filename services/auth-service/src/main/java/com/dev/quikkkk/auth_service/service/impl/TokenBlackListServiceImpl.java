@@ -2,73 +2,306 @@ package com.dev.quikkkk.auth_service.service.impl;
 
 import com.dev.quikkkk.auth_service.service.IJwtService;
 import com.dev.quikkkk.auth_service.service.ITokenBlackListService;
+import com.dev.quikkkk.auth_service.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
-import static java.util.concurrent.TimeUnit.HOURS;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TokenBlackListServiceImpl implements ITokenBlackListService {
-    private final RedisTemplate<String, Object> redisTemplate;
+public class TokenBlackListServiceImpl implements ITokenBlackListService, MessageListener, SubscriptionListener {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
     private final IJwtService jwtService;
+    private final MeterRegistry meterRegistry;
 
-    private static final String BLACKLIST_KEY_PREFIX = "blacklist_token_";
+    private static final String REVOKED_JTI_KEY_PREFIX = "bl:";
+    private static final String LEGACY_KEY_PREFIX = "blacklist_token_";
+    private static final String REVOKED = "1";
+    private static final int DIGEST_BYTES = 16;
+    private static final String REVOCATION_CHANNEL = "token-revocations";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    @Value("${app.security.blacklist.expected-revocations:1000000}")
+    private long expectedRevocations;
+
+    @Value("${app.security.blacklist.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${app.security.blacklist.deny-on-redis-failure:true}")
+    private boolean denyOnRedisFailure;
+
+    private final Object filterLock = new Object();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile BloomFilter revokedTokens;
+    private BloomFilter rebuildingFilter;
+    private long subscriptionEpoch;
+    private volatile boolean filterLoaded;
+
+    private Counter filterMisses;
+    private Counter redisHits;
+    private Counter falsePositives;
+    private Counter redisFailures;
+
+    @PostConstruct
+    public void init() {
+        revokedTokens = new BloomFilter(expectedRevocations, falsePositiveRate);
+        filterMisses = lookupCounter("filter_miss");
+        redisHits = lookupCounter("revoked");
+        falsePositives = lookupCounter("false_positive");
+        redisFailures = lookupCounter("redis_error");
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocationFilter() {
+        rebuildFilter();
+    }
 
     @Override
     public void blacklistToken(String token) {
+        Date expiration = getTokenExpiration(token);
+
+        if (expiration == null) {
+            log.warn("Token is invalid or already expired, not adding to blacklist.");
+            return;
+        }
+
+        long ttl = expiration.getTime() - System.currentTimeMillis();
+
+        if (ttl <= 0) {
+            log.warn("Token already expired, not adding to blacklist.");
+            return;
+        }
+
+        String key = revocationKey(token);
+        addToFilter(key);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.set(key, REVOKED, Expiration.milliseconds(ttl), SetOption.upsert());
+            redis.publish(REVOCATION_CHANNEL, key);
+            return null;
+        });
+        log.info("Token blacklisted successfully. TTL: {} ms", ttl);
+    }
+
+    @Override
+    public boolean isTokenBlacklisted(String token) {
+        String key = revocationKey(token);
+
+        if (filterLoaded && !revokedTokens.mightContain(key)) {
+            filterMisses.increment();
+            return false;
+        }
+
         try {
-            String key = BLACKLIST_KEY_PREFIX + token;
-            String email = jwtService.extractEmail(token);
-            Date expiration = getTokenExpiration(token);
-
-            if (expiration != null) {
-                long ttl = expiration.getTime() - System.currentTimeMillis();
-                if (ttl > 0) {
-                    redisTemplate.opsForValue().set(key, Instant.now().toString(), Duration.ofMillis(ttl));
-                    log.info("Token blacklisted successfully. TTL: {} ms", ttl);
-                } else {
-                    log.warn("Token already expired, not adding to blacklist.");
-                }
-            } else {
-                redisTemplate.opsForValue().set(key, Instant.now().toString());
-                redisTemplate.expire(key, Duration.ofHours(24));
-                log.warn("Could not determine token expiration, using default TTL: 24 hours");
+            boolean revoked = Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+            (revoked ? redisHits : falsePositives).increment();
+            return revoked;
+        } catch (RuntimeException e) {
+            redisFailures.increment();
+            boolean deny = filterLoaded && denyOnRedisFailure;
+            log.warn("Blacklist lookup failed, treating token as {}: {}", deny ? "revoked" : "valid", e.getMessage());
+            return deny;
+        }
+    }
+
+    @Override
+    public List<Boolean> areTokensBlacklisted(List<String> tokens) {
+        List<Boolean> revoked = new ArrayList<>(Collections.nCopies(tokens.size(), false));
+        List<Integer> candidates = new ArrayList<>();
+        List<String> candidateKeys = new ArrayList<>();
+
+        for (int i = 0; i < tokens.size(); i++) {
+            String key = revocationKey(tokens.get(i));
+
+            if (filterLoaded && !revokedTokens.mightContain(key)) {
+                filterMisses.increment();
+                continue;
             }
-        } catch (Exception e) {
-            log.error("Error blacklisting token", e);
-            String key = BLACKLIST_KEY_PREFIX + token;
 
-            redisTemplate.opsForValue().set(key, Instant.now().toString());
-            redisTemplate.expire(key, Duration.ofHours(24));
+            candidates.add(i);
+            candidateKeys.add(key);
         }
+
+        if (candidateKeys.isEmpty()) return revoked;
+
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(candidateKeys);
+
+            for (int i = 0; i < candidates.size(); i++) {
+                boolean hit = values != null && values.get(i) != null;
+                revoked.set(candidates.get(i), hit);
+                (hit ? redisHits : falsePositives).increment();
+            }
+        } catch (RuntimeException e) {
+            redisFailures.increment(candidates.size());
+            boolean deny = filterLoaded && denyOnRedisFailure;
+            log.warn("Batch blacklist lookup failed, treating {} tokens as {}: {}",
+                    candidates.size(), deny ? "revoked" : "valid", e.getMessage());
+            for (int index : candidates) revoked.set(index, deny);
+        }
+
+        return revoked;
     }
 
     @Override
-    public boolean isTokenBlacklisted(String token) {
-        String key = BLACKLIST_KEY_PREFIX + token;
-        return redisTemplate.hasKey(key);
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilter(new String(message.getBody(), UTF_8));
+    }
+
+    /**
+     * Called on the first subscription and again whenever the container resubscribes after losing its
+     * connection. Pub/sub does not redeliver what was published in between, so the filter is distrusted (every
+     * lookup goes to Redis) until a rebuild started after this point has finished.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        synchronized (filterLock) {
+            subscriptionEpoch++;
+            filterLoaded = false;
+        }
+        Thread.ofVirtual().name("revocation-filter-rebuild").start(this::rebuildFilter);
     }
 
     @Override
-    @Scheduled(fixedRate = 60 * 60 * 1000)
+    @Scheduled(
+            fixedRateString = "${app.security.blacklist.rebuild-interval-minutes:10}",
+            initialDelayString = "${app.security.blacklist.rebuild-interval-minutes:10}",
+            timeUnit = TimeUnit.MINUTES
+    )
     public void cleanupExpiredTokens() {
-        log.info("Running cleanup of expired tokens");
+        log.info("Rebuilding token revocation filter");
+        rebuildFilter();
+    }
+
+    @Scheduled(fixedDelay = 30 * 1000, initialDelay = 30 * 1000)
+    public void retryFilterLoad() {
+        if (!filterLoaded) rebuildFilter();
+    }
+
+    private void rebuildFilter() {
+        rebuildLock.lock();
+        try {
+            BloomFilter filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+            long epoch;
+            synchronized (filterLock) {
+                rebuildingFilter = filter;
+                epoch = subscriptionEpoch;
+            }
+
+            try {
+                long entries = scanInto(filter, REVOKED_JTI_KEY_PREFIX) + scanInto(filter, LEGACY_KEY_PREFIX);
+
+                synchronized (filterLock) {
+                    revokedTokens = filter;
+                    rebuildingFilter = null;
+                    // A resubscription during the scan may have lost messages this scan already passed
+                    if (epoch == subscriptionEpoch) filterLoaded = true;
+                }
+                log.info("Token revocation filter loaded with {} entries", entries);
+            } catch (RuntimeException e) {
+                synchronized (filterLock) {
+                    rebuildingFilter = null;
+                }
+                log.warn("Could not rebuild token revocation filter, {}: {}",
+                        filterLoaded ? "keeping previous filter" : "falling back to Redis lookups", e.getMessage());
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private long scanInto(BloomFilter filter, String prefix) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(prefix + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        long entries = 0;
+
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                filter.put(cursor.next());
+                entries++;
+            }
+        }
+
+        return entries;
+    }
+
+    private String revocationKey(String token) {
+        String tokenId = extractTokenId(token);
+        if (tokenId == null) return LEGACY_KEY_PREFIX + token;
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenId.getBytes(UTF_8));
+            return REVOKED_JTI_KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String extractTokenId(String token) {
+        try {
+            return jwtService.introspect(token).tokenId();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // Under the same lock as the rebuild handoff, so a revocation racing a rebuild lands in the filter that wins
+    private void addToFilter(String key) {
+        synchronized (filterLock) {
+            revokedTokens.put(key);
+            if (rebuildingFilter != null) rebuildingFilter.put(key);
+        }
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("auth.blacklist.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     private Date getTokenExpiration(String token) {
         try {
             return jwtService.extractExpiration(token);
         } catch (Exception e) {
-            log.error("Could not extract expiration from token", e);
+            log.debug("Could not extract expiration from token: {}", e.getMessage());
             return null;
         }
     }
@@ -0,0 +1,211 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.dto.response.TokenValidationResponse;
+import com.dev.quikkkk.auth_service.exception.BusinessException;
+import com.dev.quikkkk.auth_service.security.TokenIntrospection;
+import com.dev.quikkkk.auth_service.service.IJwtService;
+import com.dev.quikkkk.auth_service.service.ITokenBlackListService;
+import com.dev.quikkkk.auth_service.service.ITokenIntrospectionService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.dev.quikkkk.auth_service.exception.ErrorCode.INTERNAL_SERVER_ERROR;
+import static com.dev.quikkkk.auth_service.exception.ErrorCode.INTROSPECTION_BATCH_TOO_LARGE;
+import static com.dev.quikkkk.auth_service.exception.ErrorCode.SERVICE_OVERLOADED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenIntrospectionServiceImpl implements ITokenIntrospectionService {
+    private final IJwtService jwtService;
+    private final ITokenBlackListService tokenBlackListService;
+    private final MeterRegistry meterRegistry;
+
+    private static final String EXPIRED = "expired";
+    private static final String INVALID = "invalid";
+    private static final String REVOKED = "revoked";
+
+    @Value("${app.security.introspection.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${app.security.introspection.max-stream-size:100000}")
+    private int maxStreamSize;
+
+    @Value("${app.security.introspection.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.security.introspection.threads:0}")
+    private int introspectionThreads;
+
+    @Value("${app.security.introspection.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.security.introspection.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private int parallelism;
+
+    @PostConstruct
+    public void init() {
+        parallelism = introspectionThreads > 0 ? introspectionThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                0L,
+                MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-introspection-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        new ExecutorServiceMetrics(executor, "token-introspection", List.of()).bindTo(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, SECONDS)) executor.shutdownNow();
+    }
+
+    @Override
+    public List<TokenValidationResponse> introspect(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) throw new BusinessException(INTROSPECTION_BATCH_TOO_LARGE);
+        return timed("batch", tokens.size(), () -> introspectChunk(tokens));
+    }
+
+    @Override
+    public void checkStreamSize(int tokenCount) {
+        if (tokenCount > maxStreamSize) throw new BusinessException(INTROSPECTION_BATCH_TOO_LARGE);
+    }
+
+    @Override
+    public void introspectInChunks(List<String> tokens, Consumer<List<TokenValidationResponse>> chunkConsumer) {
+        checkStreamSize(tokens.size());
+
+        for (int from = 0; from < tokens.size(); from += chunkSize) {
+            List<String> chunk = tokens.subList(from, Math.min(from + chunkSize, tokens.size()));
+            chunkConsumer.accept(timed("stream", chunk.size(), () -> introspectChunk(chunk)));
+        }
+    }
+
+    private List<TokenValidationResponse> introspectChunk(List<String> tokens) {
+        TokenValidationResponse[] results = new TokenValidationResponse[tokens.size()];
+        TokenIntrospection[] introspections = new TokenIntrospection[tokens.size()];
+
+        verifySignatures(tokens, results, introspections);
+
+        List<Integer> verified = new ArrayList<>(tokens.size());
+        List<String> verifiedTokens = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            if (introspections[i] == null) continue;
+
+            verified.add(i);
+            verifiedTokens.add(tokens.get(i));
+        }
+
+        if (!verifiedTokens.isEmpty()) {
+            List<Boolean> revoked = tokenBlackListService.areTokensBlacklisted(verifiedTokens);
+
+            for (int i = 0; i < verified.size(); i++) {
+                int index = verified.get(i);
+                results[index] = revoked.get(i)
+                        ? TokenValidationResponse.invalid(REVOKED)
+                        : TokenValidationResponse.valid(introspections[index]);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void verifySignatures(List<String> tokens, TokenValidationResponse[] results, TokenIntrospection[] introspections) {
+        int sliceSize = Math.max(1, (tokens.size() + parallelism - 1) / parallelism);
+        List<CompletableFuture<Void>> slices = new ArrayList<>();
+
+        try {
+            for (int from = 0; from < tokens.size(); from += sliceSize) {
+                int start = from;
+                int end = Math.min(from + sliceSize, tokens.size());
+
+                slices.add(CompletableFuture.runAsync(() -> {
+                    for (int i = start; i < end; i++) verify(tokens.get(i), i, results, introspections);
+                }, executor));
+            }
+
+            CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new)).get(timeoutMs, MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Token introspection queue is full, rejecting batch of {}", tokens.size());
+            throw new BusinessException(SERVICE_OVERLOADED);
+        } catch (TimeoutException e) {
+            log.warn("Token introspection of {} tokens timed out after {} ms", tokens.size(), timeoutMs);
+            throw new BusinessException(SERVICE_OVERLOADED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            log.error("Token introspection failed: {}", e.getCause().getMessage());
+            throw new BusinessException(INTERNAL_SERVER_ERROR);
+        } finally {
+            slices.forEach(slice -> slice.cancel(true));
+        }
+    }
+
+    private void verify(String token, int index, TokenValidationResponse[] results, TokenIntrospection[] introspections) {
+        try {
+            TokenIntrospection introspection = jwtService.introspect(token);
+
+            if (introspection.email() == null) {
+                results[index] = TokenValidationResponse.invalid(INVALID);
+            } else if (introspection.isExpired()) {
+                results[index] = TokenValidationResponse.invalid(EXPIRED);
+            } else {
+                introspections[index] = introspection;
+            }
+        } catch (ExpiredJwtException e) {
+            results[index] = TokenValidationResponse.invalid(EXPIRED);
+        } catch (RuntimeException e) {
+            results[index] = TokenValidationResponse.invalid(INVALID);
+        }
+    }
+
+    private <T> T timed(String mode, int size, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return work.get();
+        } finally {
+            sample.stop(Timer.builder("auth.token.introspection")
+                    .tag("mode", mode)
+                    .register(meterRegistry));
+            meterRegistry.summary("auth.token.introspection.batch.size", "mode", mode).record(size);
+        }
+    }
+}
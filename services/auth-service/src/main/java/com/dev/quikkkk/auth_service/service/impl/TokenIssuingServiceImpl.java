@@ -0,0 +1,122 @@
+package com.dev.quikkkk.auth_service.service.impl;
+
+import com.dev.quikkkk.auth_service.exception.BusinessException;
+import com.dev.quikkkk.auth_service.security.TokenPair;
+import com.dev.quikkkk.auth_service.security.UserSnapshot;
+import com.dev.quikkkk.auth_service.service.IJwtService;
+import com.dev.quikkkk.auth_service.service.ITokenIssuingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dev.quikkkk.auth_service.exception.ErrorCode.INTERNAL_SERVER_ERROR;
+import static com.dev.quikkkk.auth_service.exception.ErrorCode.SERVICE_OVERLOADED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenIssuingServiceImpl implements ITokenIssuingService {
+    private final IJwtService jwtService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.jwt.signing-threads:0}")
+    private int signingThreads;
+
+    @Value("${app.security.jwt.signing-queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${app.security.jwt.signing-timeout-ms:2000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int threads = signingThreads > 0 ? signingThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-signing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        new ExecutorServiceMetrics(executor, "token-signing", List.of()).bindTo(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, SECONDS)) executor.shutdownNow();
+    }
+
+    @Override
+    public TokenPair issueTokens(UserSnapshot user) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<String> accessToken = null;
+        CompletableFuture<String> refreshToken = null;
+        String outcome = "success";
+
+        try {
+            accessToken = CompletableFuture.supplyAsync(() -> jwtService.generateAccessToken(user), executor);
+            refreshToken = CompletableFuture.supplyAsync(() -> jwtService.generateRefreshToken(user), executor);
+
+            return accessToken.thenCombine(refreshToken, TokenPair::new).get(timeoutMs, MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            outcome = "rejected";
+            log.warn("Token signing queue is full, rejecting request");
+            throw new BusinessException(SERVICE_OVERLOADED);
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            log.warn("Token signing timed out after {} ms", timeoutMs);
+            throw new BusinessException(SERVICE_OVERLOADED);
+        } catch (InterruptedException e) {
+            outcome = "interrupted";
+            Thread.currentThread().interrupt();
+            throw new BusinessException(INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            outcome = "error";
+            log.error("Token signing failed: {}", e.getCause().getMessage());
+            throw new BusinessException(INTERNAL_SERVER_ERROR);
+        } finally {
+            if (!"success".equals(outcome)) {
+                cancel(accessToken);
+                cancel(refreshToken);
+            }
+
+            sample.stop(Timer.builder("auth.token.signing")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void cancel(CompletableFuture<String> future) {
+        if (future != null) future.cancel(true);
+    }
+}
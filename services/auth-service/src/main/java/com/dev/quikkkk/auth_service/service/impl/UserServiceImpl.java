@@ -8,10 +8,10 @@ import com.dev.quikkkk.auth_service.mapper.UserMapper;
 import com.dev.quikkkk.auth_service.repository.IRoleRepository;
 import com.dev.quikkkk.auth_service.repository.IUserCredentialsRepository;
 import com.dev.quikkkk.auth_service.service.IUserService;
+import com.dev.quikkkk.auth_service.service.IUserSnapshotService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
@@ -27,10 +27,10 @@ public class UserServiceImpl implements IUserService {
     private final IUserCredentialsRepository userCredentialsRepository;
     private final IRoleRepository roleRepository;
     private final UserMapper mapper;
+    private final IUserSnapshotService userSnapshotService;
 
     @Override
     @Transactional
-    @CacheEvict(value = "users", key = "#userId")
     public RoleUpdatedResponse updateUserRole(String userId, UpdateUserRoleRequest request) {
         log.info("Updating role for user: {} to role: {}", userId, request.getRole());
 
@@ -49,6 +49,7 @@ public class UserServiceImpl implements IUserService {
         user.setRoles(roles);
 
         var updatedUser = userCredentialsRepository.save(user);
+        userSnapshotService.invalidate(updatedUser.getEmail());
 
         log.info("Role updated successfully for user: {}", userId);
 
@@ -0,0 +1,124 @@
+package com.dev.quikkkk.auth_service.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Wraps a value serializer with a four byte header (magic, format version, schema version, flags) and LZ4
+ * compresses payloads above the configured threshold. Entries written by another codec, format or schema
+ * version are read as {@code null}, which the cache treats as a miss and overwrites on the next put.
+ */
+@Slf4j
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+    public static final byte CODEC_JSON = 0x00;
+    public static final byte CODEC_SMILE = 0x02;
+
+    private static final byte MAGIC = (byte) 0xCB;
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final byte CODEC_MASK = 0x02;
+    private static final int HEADER_LENGTH = 4;
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+    private static final int MAX_UNCOMPRESSED_LENGTH = 16 * 1024 * 1024;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+    private final RedisSerializer<T> delegate;
+    private final byte codec;
+    private final byte schemaVersion;
+    private final int compressionThreshold;
+
+    public CompactRedisSerializer(RedisSerializer<T> delegate, byte codec, int schemaVersion, int compressionThreshold) {
+        this.delegate = delegate;
+        this.codec = codec;
+        this.schemaVersion = (byte) schemaVersion;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] payload = delegate.serialize(value);
+        if (payload == null) return null;
+
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] compressed = compress(payload);
+            if (compressed != null) return compressed;
+        }
+
+        byte[] result = new byte[HEADER_LENGTH + payload.length];
+        writeHeader(result, (byte) 0);
+        System.arraycopy(payload, 0, result, HEADER_LENGTH, payload.length);
+        return result;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        if (!isCurrentFormat(bytes)) {
+            log.debug("Ignoring cache entry written by another codec or schema version");
+            return null;
+        }
+
+        try {
+            byte[] payload = (bytes[3] & FLAG_LZ4) != 0
+                    ? decompress(bytes)
+                    : Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+
+            return delegate.deserialize(payload);
+        } catch (SerializationException | LZ4Exception | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable cache entry: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] compress(byte[] payload) {
+        int offset = HEADER_LENGTH + LENGTH_PREFIX;
+        byte[] buffer = new byte[offset + COMPRESSOR.maxCompressedLength(payload.length)];
+        int compressedLength = COMPRESSOR.compress(payload, 0, payload.length, buffer, offset);
+
+        if (offset + compressedLength >= HEADER_LENGTH + payload.length) return null;
+
+        writeHeader(buffer, FLAG_LZ4);
+        ByteBuffer.wrap(buffer, HEADER_LENGTH, LENGTH_PREFIX).putInt(payload.length);
+        return Arrays.copyOf(buffer, offset + compressedLength);
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        int offset = HEADER_LENGTH + LENGTH_PREFIX;
+        if (bytes.length < offset) throw new IllegalArgumentException("Truncated compressed cache entry");
+
+        int length = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_PREFIX).getInt();
+        if (length < 0 || length > MAX_UNCOMPRESSED_LENGTH)
+            throw new IllegalArgumentException("Invalid uncompressed length " + length);
+
+        byte[] payload = new byte[length];
+        int written = DECOMPRESSOR.decompress(bytes, offset, bytes.length - offset, payload, 0);
+        if (written != length) throw new IllegalArgumentException("Compressed cache entry length mismatch");
+
+        return payload;
+    }
+
+    private boolean isCurrentFormat(byte[] bytes) {
+        return bytes.length >= HEADER_LENGTH
+                && bytes[0] == MAGIC
+                && bytes[1] == FORMAT_VERSION
+                && bytes[2] == schemaVersion
+                && (bytes[3] & CODEC_MASK) == codec;
+    }
+
+    private void writeHeader(byte[] target, byte compressionFlag) {
+        target[0] = MAGIC;
+        target[1] = FORMAT_VERSION;
+        target[2] = schemaVersion;
+        target[3] = (byte) (codec | compressionFlag);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dev.quikkkk.auth_service.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Locale;
+
+@UtilityClass
+public class EmailUtils {
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,11 +5,14 @@ import java.io.InputStream;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
 
 public class KeyUtils {
+    private static final String[] KEY_ALGORITHMS = {"RSA", "EC", "Ed25519"};
+
     private KeyUtils() {
     }
 
@@ -22,7 +25,14 @@ public class KeyUtils {
         byte[] decoded = Base64.getDecoder().decode(key);
         PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(decoded);
 
-        return KeyFactory.getInstance("RSA").generatePrivate(spec);
+        for (String algorithm : KEY_ALGORITHMS) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePrivate(spec);
+            } catch (InvalidKeySpecException ignored) {
+            }
+        }
+
+        throw new InvalidKeySpecException("Unsupported private key type: " + pemPath);
     }
 
     public static PublicKey loadPublicKey(String pemPath) throws Exception {
@@ -34,7 +44,18 @@ public class KeyUtils {
         byte[] decoded = Base64.getDecoder().decode(key);
         X509EncodedKeySpec spec = new X509EncodedKeySpec(decoded);
 
-        return KeyFactory.getInstance("RSA").generatePublic(spec);
+        for (String algorithm : KEY_ALGORITHMS) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePublic(spec);
+            } catch (InvalidKeySpecException ignored) {
+            }
+        }
+
+        throw new InvalidKeySpecException("Unsupported public key type: " + pemPath);
+    }
+
+    public static boolean exists(String pemPath) {
+        return KeyUtils.class.getClassLoader().getResource(pemPath) != null;
     }
 
     private static String readKeyFromResource(String pemPath) throws IOException {
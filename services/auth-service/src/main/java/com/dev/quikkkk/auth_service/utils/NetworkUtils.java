@@ -6,6 +6,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Optional;
+import java.util.Set;
 
 @UtilityClass
 public class NetworkUtils {
@@ -47,4 +48,20 @@ public class NetworkUtils {
 
         return request.getRemoteAddr();
     }
+
+    /**
+     * The client address as seen by the nearest trusted proxy: the rightmost X-Forwarded-For hop, which the
+     * proxy appended itself, when the request comes from one of {@code trustedProxies}, otherwise the peer
+     * address. Unlike {@link #getClientIp(HttpServletRequest)}, nothing the client sends can change the result.
+     */
+    public static String getTrustedClientIp(HttpServletRequest request, Set<String> trustedProxies) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) return remoteAddr;
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null) return remoteAddr;
+
+        String lastHop = forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+        return lastHop.isEmpty() ? remoteAddr : lastHop;
+    }
 }
@@ -0,0 +1,71 @@
+package com.dev.quikkkk.auth_service.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucketRateLimiter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Cache<Object, AtomicLong> buckets;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, long maxClients) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        if (refillPerSecond <= 0) throw new IllegalArgumentException("refillPerSecond must be positive");
+
+        this.emissionIntervalNanos = (long) Math.ceil(NANOS_PER_SECOND / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(emissionIntervalNanos * capacity))
+                .build();
+    }
+
+    public long tryAcquire(String clientIp) {
+        AtomicLong theoreticalArrival = buckets.get(key(clientIp), ignored -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long waitNanos = arrival - burstToleranceNanos - now;
+
+            if (waitNanos > 0) return waitNanos;
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) return 0;
+        }
+    }
+
+    private static Object key(String clientIp) {
+        long address = parseIpv4(clientIp);
+        return address >= 0 ? Long.valueOf(address) : clientIp;
+    }
+
+    private static long parseIpv4(String ip) {
+        long address = 0;
+        int octet = -1;
+        int octets = 0;
+
+        for (int i = 0, length = ip.length(); i < length; i++) {
+            char c = ip.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) return -1;
+            } else if (c == '.' && octet >= 0 && octets < 3) {
+                address = (address << 8) | octet;
+                octet = -1;
+                octets++;
+            } else {
+                return -1;
+            }
+        }
+
+        if (octet < 0 || octets != 3) return -1;
+        return (address << 8) | octet;
+    }
+}
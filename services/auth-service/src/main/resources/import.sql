@@ -0,0 +1 @@
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_credentials_email_lower ON user_credentials (lower(email));
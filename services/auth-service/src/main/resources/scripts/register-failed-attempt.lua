@@ -0,0 +1,25 @@
+-- KEYS[1] attempt counter, KEYS[2] block marker
+-- ARGV[1] max attempts, ARGV[2] attempt window (s), ARGV[3] block duration (s)
+-- returns {blocked, remaining attempts, retry after (s)}
+local maxAttempts = tonumber(ARGV[1])
+local blockDuration = tonumber(ARGV[3])
+
+local blockTtl = redis.call('TTL', KEYS[2])
+if blockTtl == -1 then
+    return {1, 0, blockDuration}
+elseif blockTtl > 0 then
+    return {1, 0, blockTtl}
+end
+
+local attempts = redis.call('INCR', KEYS[1])
+if attempts == 1 then
+    redis.call('EXPIRE', KEYS[1], ARGV[2])
+end
+
+if attempts > maxAttempts then
+    redis.call('SET', KEYS[2], '1', 'EX', blockDuration)
+    redis.call('DEL', KEYS[1])
+    return {1, 0, blockDuration}
+end
+
+return {0, maxAttempts - attempts, 0}
@@ -0,0 +1,21 @@
+-- KEYS[1] pending verification hash, KEYS[2] recently verified marker
+-- ARGV[1] HMAC of email:code under the server-side code secret, ARGV[2] max attempts, ARGV[3] verified marker ttl (s)
+-- returns {status, user id} where status is 0 invalid, 1 verified, 2 attempts exceeded
+local pending = redis.call('HMGET', KEYS[1], 'userId', 'codeHash', 'attempts')
+if not pending[1] then
+    return {0, ''}
+end
+
+local attempts = tonumber(pending[3] or '0')
+if attempts >= tonumber(ARGV[2]) then
+    return {2, ''}
+end
+
+redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+if pending[2] ~= ARGV[1] then
+    return {0, ''}
+end
+
+redis.call('DEL', KEYS[1])
+redis.call('SET', KEYS[2], pending[1], 'EX', ARGV[3])
+return {1, pending[1]}
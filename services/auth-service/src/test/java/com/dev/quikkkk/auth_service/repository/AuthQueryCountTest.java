@@ -0,0 +1,137 @@
+package com.dev.quikkkk.auth_service.repository;
+
+import com.dev.quikkkk.auth_service.config.HibernateCacheConfig;
+import com.dev.quikkkk.auth_service.entity.Role;
+import com.dev.quikkkk.auth_service.entity.UserCredentials;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthQueryCountTest {
+    private static final String MEMBER_ROLE = "ROLE_MEMBER";
+
+    @Autowired
+    private IUserCredentialsRepository userRepository;
+
+    @Autowired
+    private IRoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @Configuration
+    @EnableJpaAuditing
+    @Import(HibernateCacheConfig.class)
+    @EntityScan(basePackageClasses = UserCredentials.class)
+    @EnableJpaRepositories(basePackageClasses = IUserCredentialsRepository.class)
+    static class JpaConfig {
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        if (roleRepository.findByName(MEMBER_ROLE).isEmpty()) {
+            roleRepository.save(Role.builder().name(MEMBER_ROLE).createdBy("test").build());
+        }
+
+        roleRepository.findByName(MEMBER_ROLE);
+        statistics.clear();
+    }
+
+    @Test
+    void roleLookupByNameIsServedFromCacheOnceWarm() {
+        Optional<Role> role = roleRepository.findByName(MEMBER_ROLE);
+
+        assertThat(role).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void registrationExecutesBoundedStatements() {
+        transactionTemplate.executeWithoutResult(status -> register("register@example.com"));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void loginLookupLoadsRolesInOneRoundTripAndThenHitsSecondLevelCache() {
+        transactionTemplate.executeWithoutResult(status -> register("login@example.com"));
+        statistics.clear();
+
+        Optional<UserCredentials> cold = userRepository.findWithRolesByEmail("login@example.com");
+
+        assertThat(cold).isPresent();
+        assertThat(cold.get().getRoles()).extracting(Role::getName).containsExactly(MEMBER_ROLE);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        statistics.clear();
+        Optional<UserCredentials> warm = userRepository.findWithRolesByEmail("login@example.com");
+
+        assertThat(warm).isPresent();
+        assertThat(warm.get().getRoles()).extracting(Role::getName).containsExactly(MEMBER_ROLE);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void loginLookupFallsBackToCaseInsensitiveMatch() {
+        transactionTemplate.executeWithoutResult(status -> register("Mixed.Case@example.com"));
+
+        Optional<UserCredentials> user = userRepository.findWithRolesByEmail("mixed.case@EXAMPLE.com");
+
+        assertThat(user).isPresent();
+        assertThat(user.get().getRoles()).extracting(Role::getName).containsExactly(MEMBER_ROLE);
+    }
+
+    private void register(String email) {
+        assertThat(userRepository.existsByEmail(email)).isFalse();
+        Role role = roleRepository.findByName(MEMBER_ROLE).orElseThrow();
+
+        Set<Role> roles = new HashSet<>();
+        roles.add(role);
+
+        userRepository.save(UserCredentials.builder()
+                .firstName("Test")
+                .lastName("User")
+                .email(email)
+                .password("{noop}password")
+                .enabled(true)
+                .roles(roles)
+                .build());
+    }
+}
@@ -0,0 +1,33 @@
+package com.dev.quikkkk.event_schemas.registry;
+
+public enum CompatibilityLevel {
+    NONE(false, false, false),
+    BACKWARD(true, false, false),
+    BACKWARD_TRANSITIVE(true, false, true),
+    FORWARD(false, true, false),
+    FORWARD_TRANSITIVE(false, true, true),
+    FULL(true, true, false),
+    FULL_TRANSITIVE(true, true, true);
+
+    private final boolean backward;
+    private final boolean forward;
+    private final boolean transitive;
+
+    CompatibilityLevel(boolean backward, boolean forward, boolean transitive) {
+        this.backward = backward;
+        this.forward = forward;
+        this.transitive = transitive;
+    }
+
+    public boolean backward() {
+        return backward;
+    }
+
+    public boolean forward() {
+        return forward;
+    }
+
+    public boolean transitive() {
+        return transitive;
+    }
+}
@@ -0,0 +1,200 @@
+package com.dev.quikkkk.event_schemas.registry;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaNormalization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for a schema registry. {@code registry.properties} maps stable numeric ids, which are written
+ * into every message, to {@code <subject>:<version>}; each version lives in {@code <subject>/v<version>.avsc}
+ * next to it. The registry is read-only at runtime: new versions are added to the files and have to pass
+ * {@link #checkCompatibility()} before they ship. Schemas are matched to ids by their Parsing Canonical Form
+ * fingerprint, so docs and properties the code generator adds (such as {@code avro.java.string}) do not matter.
+ */
+public final class FileSchemaRegistry {
+    public static final String DEFAULT_LOCATION = "schema-registry";
+
+    private static final String INDEX_FILE = "registry.properties";
+    private static final String COMPATIBILITY_KEY = "compatibility";
+
+    private static volatile FileSchemaRegistry classpathRegistry;
+
+    private final CompatibilityLevel compatibility;
+    private final Map<Integer, RegisteredSchema> byId;
+    private final Map<Long, Integer> idByFingerprint;
+    private final Map<Schema, Integer> resolvedIds = new ConcurrentHashMap<>();
+    private final Map<String, List<RegisteredSchema>> bySubject;
+
+    private FileSchemaRegistry(CompatibilityLevel compatibility, List<RegisteredSchema> schemas) {
+        Map<Integer, RegisteredSchema> ids = new HashMap<>();
+        Map<Long, Integer> reverse = new HashMap<>();
+        Map<String, List<RegisteredSchema>> subjects = new TreeMap<>();
+
+        for (RegisteredSchema schema : schemas) {
+            ids.put(schema.id(), schema);
+            reverse.merge(SchemaNormalization.parsingFingerprint64(schema.schema()), schema.id(), Math::max);
+            subjects.computeIfAbsent(schema.subject(), s -> new ArrayList<>()).add(schema);
+        }
+        subjects.values().forEach(versions -> versions.sort(Comparator.comparingInt(RegisteredSchema::version)));
+
+        this.compatibility = compatibility;
+        this.byId = Map.copyOf(ids);
+        this.idByFingerprint = Map.copyOf(reverse);
+        this.bySubject = Collections.unmodifiableMap(subjects);
+    }
+
+    public static FileSchemaRegistry classpath() {
+        FileSchemaRegistry registry = classpathRegistry;
+        if (registry == null) {
+            synchronized (FileSchemaRegistry.class) {
+                registry = classpathRegistry;
+                if (registry == null) {
+                    registry = fromClasspath(FileSchemaRegistry.class.getClassLoader(), DEFAULT_LOCATION);
+                    classpathRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    public static FileSchemaRegistry fromClasspath(ClassLoader classLoader, String location) {
+        return load(resource -> {
+            InputStream in = classLoader.getResourceAsStream(location + "/" + resource);
+            if (in == null) throw new IllegalStateException("Schema registry resource not found: " + location + "/" + resource);
+            return in;
+        });
+    }
+
+    public static FileSchemaRegistry fromDirectory(Path directory) {
+        return load(resource -> Files.newInputStream(directory.resolve(resource)));
+    }
+
+    public Schema schema(int id) {
+        RegisteredSchema schema = byId.get(id);
+        if (schema == null) throw new IllegalArgumentException("Unknown schema id " + id);
+        return schema.schema();
+    }
+
+    public int idOf(Schema schema) {
+        Integer id = resolvedIds.computeIfAbsent(schema,
+                s -> idByFingerprint.get(SchemaNormalization.parsingFingerprint64(s)));
+        if (id == null) throw new IllegalArgumentException("Schema " + schema.getFullName() + " is not registered");
+        return id;
+    }
+
+    public Optional<RegisteredSchema> latest(String subject) {
+        List<RegisteredSchema> versions = versions(subject);
+        return versions.isEmpty() ? Optional.empty() : Optional.of(versions.getLast());
+    }
+
+    public List<RegisteredSchema> versions(String subject) {
+        return Collections.unmodifiableList(bySubject.getOrDefault(subject, List.of()));
+    }
+
+    public Set<String> subjects() {
+        return bySubject.keySet();
+    }
+
+    public CompatibilityLevel compatibility() {
+        return compatibility;
+    }
+
+    public List<String> checkCompatibility() {
+        List<String> violations = new ArrayList<>();
+
+        bySubject.forEach((subject, versions) -> {
+            for (int i = 1; i < versions.size(); i++) {
+                violations.addAll(check(subject, versions.subList(0, i), versions.get(i).schema(), versions.get(i).version()));
+            }
+        });
+
+        return violations;
+    }
+
+    public List<String> checkCandidate(String subject, Schema candidate) {
+        List<RegisteredSchema> versions = versions(subject);
+        int nextVersion = versions.isEmpty() ? 1 : versions.getLast().version() + 1;
+        return check(subject, versions, candidate, nextVersion);
+    }
+
+    private List<String> check(String subject, List<RegisteredSchema> previous, Schema candidate, int version) {
+        List<String> violations = new ArrayList<>();
+        if (compatibility == CompatibilityLevel.NONE || previous.isEmpty()) return violations;
+
+        List<RegisteredSchema> against = compatibility.transitive() ? previous : List.of(previous.getLast());
+        for (RegisteredSchema old : against) {
+            if (compatibility.backward() && !compatible(candidate, old.schema())) {
+                violations.add("%s v%d cannot read data written with v%d".formatted(subject, version, old.version()));
+            }
+            if (compatibility.forward() && !compatible(old.schema(), candidate)) {
+                violations.add("%s v%d cannot read data written with v%d".formatted(subject, old.version(), version));
+            }
+        }
+
+        return violations;
+    }
+
+    private static boolean compatible(Schema reader, Schema writer) {
+        return SchemaCompatibility.checkReaderWriterCompatibility(reader, writer).getType()
+                == SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE;
+    }
+
+    private static FileSchemaRegistry load(ResourceOpener opener) {
+        Properties index = new Properties();
+        try (InputStream in = opener.open(INDEX_FILE)) {
+            index.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema registry index", e);
+        }
+
+        CompatibilityLevel compatibility = CompatibilityLevel.valueOf(
+                index.getProperty(COMPATIBILITY_KEY, CompatibilityLevel.FULL_TRANSITIVE.name()).trim());
+
+        Map<String, Integer> seen = new LinkedHashMap<>();
+        List<RegisteredSchema> schemas = new ArrayList<>();
+
+        for (String key : index.stringPropertyNames()) {
+            if (COMPATIBILITY_KEY.equals(key)) continue;
+
+            int id = Integer.parseInt(key.trim());
+            String[] coordinates = index.getProperty(key).trim().split(":", 2);
+            String subject = coordinates[0];
+            int version = Integer.parseInt(coordinates[1]);
+
+            Integer previous = seen.put(subject + ":" + version, id);
+            if (previous != null)
+                throw new IllegalStateException("%s:%d is registered under ids %d and %d".formatted(subject, version, previous, id));
+
+            try (InputStream in = opener.open(subject + "/v" + version + ".avsc")) {
+                schemas.add(new RegisteredSchema(id, subject, version, new Schema.Parser().parse(in)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read schema " + subject + " v" + version, e);
+            }
+        }
+
+        return new FileSchemaRegistry(compatibility, schemas);
+    }
+
+    @FunctionalInterface
+    private interface ResourceOpener {
+        InputStream open(String resource) throws IOException;
+    }
+}
@@ -0,0 +1,6 @@
+package com.dev.quikkkk.event_schemas.registry;
+
+import org.apache.avro.Schema;
+
+public record RegisteredSchema(int id, String subject, int version, Schema schema) {
+}
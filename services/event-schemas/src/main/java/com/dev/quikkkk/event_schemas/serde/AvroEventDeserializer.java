@@ -0,0 +1,88 @@
+package com.dev.quikkkk.event_schemas.serde;
+
+import com.dev.quikkkk.event_schemas.registry.FileSchemaRegistry;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads events written with any registered version of the target record's schema, resolving them against
+ * the generated class. JSON payloads from producers that have not switched yet are decoded by field name.
+ */
+public class AvroEventDeserializer<T extends SpecificRecord> implements Deserializer<T> {
+    public static final String VALUE_TYPE = "avro.event.value.type";
+
+    private final FileSchemaRegistry registry;
+    private final Map<Integer, DatumReader<T>> readers = new ConcurrentHashMap<>();
+
+    private SpecificData data;
+    private Schema readerSchema;
+    private LegacyJsonDecoder legacyDecoder;
+
+    public AvroEventDeserializer() {
+        this.registry = FileSchemaRegistry.classpath();
+    }
+
+    public AvroEventDeserializer(Class<T> type) {
+        this(type, FileSchemaRegistry.classpath());
+    }
+
+    public AvroEventDeserializer(Class<T> type, FileSchemaRegistry registry) {
+        this.registry = registry;
+        init(type);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (readerSchema != null) return;
+
+        Object type = configs.get(VALUE_TYPE);
+        if (type == null) throw new IllegalStateException(VALUE_TYPE + " must be configured");
+
+        try {
+            init(type instanceof Class<?> cls ? cls : Class.forName(type.toString()));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown event type " + type, e);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return null;
+        if (readerSchema == null) throw new IllegalStateException("Deserializer has not been configured");
+
+        try {
+            if (EventWireFormat.isAvro(bytes)) {
+                DatumReader<T> reader = readers.computeIfAbsent(EventWireFormat.schemaId(bytes), this::reader);
+                BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(
+                        bytes, EventWireFormat.HEADER_LENGTH, bytes.length - EventWireFormat.HEADER_LENGTH, null);
+                return reader.read(null, decoder);
+            }
+
+            if (EventWireFormat.isLegacyJson(bytes)) return legacyDecoder.decode(bytes);
+        } catch (Exception e) {
+            throw new SerializationException("Failed to deserialize " + readerSchema.getFullName() + " from " + topic, e);
+        }
+
+        throw new SerializationException("Unknown event encoding on " + topic + ", first byte 0x" + Integer.toHexString(bytes[0] & 0xFF));
+    }
+
+    private void init(Class<?> type) {
+        this.data = SpecificData.getForClass(type);
+        this.readerSchema = data.getSchema(type);
+        this.legacyDecoder = new LegacyJsonDecoder(readerSchema, data);
+    }
+
+    private DatumReader<T> reader(int schemaId) {
+        return new SpecificDatumReader<>(registry.schema(schemaId), readerSchema, data);
+    }
+}
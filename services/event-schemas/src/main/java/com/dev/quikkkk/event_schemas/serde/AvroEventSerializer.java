@@ -0,0 +1,58 @@
+package com.dev.quikkkk.event_schemas.serde;
+
+import com.dev.quikkkk.event_schemas.registry.FileSchemaRegistry;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AvroEventSerializer<T extends SpecificRecord> implements Serializer<T> {
+    private final FileSchemaRegistry registry;
+    private final Map<Schema, DatumWriter<T>> writers = new ConcurrentHashMap<>();
+
+    public AvroEventSerializer() {
+        this(FileSchemaRegistry.classpath());
+    }
+
+    public AvroEventSerializer(FileSchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        return serialize(data);
+    }
+
+    public byte[] serialize(T data) {
+        if (data == null) return null;
+
+        Schema schema = data.getSchema();
+        try {
+            int id = registry.idOf(schema);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+            out.write(EventWireFormat.MAGIC_BYTE);
+            out.write(id >>> 24);
+            out.write(id >>> 16);
+            out.write(id >>> 8);
+            out.write(id);
+
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writers.computeIfAbsent(schema, SpecificDatumWriter::new).write(data, encoder);
+            encoder.flush();
+
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to serialize " + schema.getFullName(), e);
+        }
+    }
+}
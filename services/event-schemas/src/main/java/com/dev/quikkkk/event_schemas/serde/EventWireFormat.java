@@ -0,0 +1,29 @@
+package com.dev.quikkkk.event_schemas.serde;
+
+/**
+ * Every Avro event starts with {@link #MAGIC_BYTE} followed by the big-endian registry id of the writer
+ * schema. Events published before the switch are plain JSON objects and therefore start with '{'.
+ */
+public final class EventWireFormat {
+    public static final byte MAGIC_BYTE = 0x0;
+    public static final int HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private EventWireFormat() {
+    }
+
+    static boolean isAvro(byte[] data) {
+        return data.length >= HEADER_LENGTH && data[0] == MAGIC_BYTE;
+    }
+
+    static boolean isLegacyJson(byte[] data) {
+        for (byte b : data) {
+            if (b == '{') return true;
+            if (!Character.isWhitespace(b)) return false;
+        }
+        return false;
+    }
+
+    static int schemaId(byte[] data) {
+        return ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+    }
+}
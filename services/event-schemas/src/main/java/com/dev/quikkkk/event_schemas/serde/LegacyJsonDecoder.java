@@ -0,0 +1,106 @@
+package com.dev.quikkkk.event_schemas.serde;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the Jackson JSON the producers used to send onto the current schema by field name. Timestamps may be
+ * ISO strings or the array form {@code JavaTimeModule} writes when dates are serialized as timestamps.
+ */
+final class LegacyJsonDecoder {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Schema schema;
+    private final SpecificData data;
+
+    LegacyJsonDecoder(Schema schema, SpecificData data) {
+        this.schema = schema;
+        this.data = data;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T decode(byte[] json) throws IOException {
+        JsonNode root = MAPPER.readTree(json);
+        SpecificRecord record = (SpecificRecord) data.newRecord(null, schema);
+
+        for (Schema.Field field : schema.getFields()) {
+            JsonNode node = root.get(field.name());
+            Object value = node == null || node.isNull() ? defaultValue(field) : convert(node, field.schema());
+            record.put(field.pos(), value);
+        }
+
+        return (T) record;
+    }
+
+    private Object defaultValue(Schema.Field field) {
+        if (field.hasDefaultValue()) return data.getDefaultValue(field);
+        if (isNullable(field.schema())) return null;
+        throw new IllegalArgumentException("Legacy event is missing required field " + field.name());
+    }
+
+    private Object convert(JsonNode node, Schema fieldSchema) {
+        LogicalType logicalType = fieldSchema.getLogicalType();
+
+        return switch (fieldSchema.getType()) {
+            case UNION -> convert(node, nonNullBranch(fieldSchema));
+            case STRING -> node.isTextual() ? node.asText() : node.toString();
+            case BOOLEAN -> node.asBoolean();
+            case INT -> node.asInt();
+            case DOUBLE, FLOAT -> node.asDouble();
+            case LONG -> {
+                if (logicalType instanceof LogicalTypes.LocalTimestampMillis) yield localDateTime(node);
+                if (logicalType instanceof LogicalTypes.TimestampMillis) yield localDateTime(node).toInstant(ZoneOffset.UTC);
+                yield node.asLong();
+            }
+            case MAP -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                node.properties().forEach(entry -> map.put(entry.getKey(), convert(entry.getValue(), fieldSchema.getValueType())));
+                yield map;
+            }
+            case ARRAY -> {
+                List<Object> list = new ArrayList<>(node.size());
+                node.forEach(element -> list.add(convert(element, fieldSchema.getElementType())));
+                yield list;
+            }
+            case ENUM -> data.createEnum(node.asText(), fieldSchema);
+            default -> throw new IllegalArgumentException("Unsupported legacy field type " + fieldSchema.getType());
+        };
+    }
+
+    private static LocalDateTime localDateTime(JsonNode node) {
+        if (node.isTextual()) return LocalDateTime.parse(node.asText());
+        if (node.isNumber()) return LocalDateTime.ofInstant(Instant.ofEpochMilli(node.asLong()), ZoneOffset.UTC);
+
+        return LocalDateTime.of(
+                node.get(0).asInt(), node.get(1).asInt(), node.get(2).asInt(),
+                node.path(3).asInt(), node.path(4).asInt(), node.path(5).asInt(), node.path(6).asInt()
+        );
+    }
+
+    private static Schema nonNullBranch(Schema union) {
+        return union.getTypes().stream()
+                .filter(type -> type.getType() != Schema.Type.NULL)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Union without a non-null branch"));
+    }
+
+    private static boolean isNullable(Schema fieldSchema) {
+        return fieldSchema.getType() == Schema.Type.NULL
+                || fieldSchema.getType() == Schema.Type.UNION
+                && fieldSchema.getTypes().stream().anyMatch(type -> type.getType() == Schema.Type.NULL);
+    }
+}
@@ -0,0 +1,182 @@
+package com.dev.quikkkk.event_schemas;
+
+import com.dev.quikkkk.event_schemas.avro.CodeConfirmation;
+import com.dev.quikkkk.event_schemas.avro.PasswordChangedEvent;
+import com.dev.quikkkk.event_schemas.avro.PasswordResetEvent;
+import com.dev.quikkkk.event_schemas.avro.UserLoginEvent;
+import com.dev.quikkkk.event_schemas.avro.UserRegisteredEvent;
+import com.dev.quikkkk.event_schemas.registry.FileSchemaRegistry;
+import com.dev.quikkkk.event_schemas.registry.RegisteredSchema;
+import com.dev.quikkkk.event_schemas.serde.AvroEventDeserializer;
+import com.dev.quikkkk.event_schemas.serde.AvroEventSerializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SchemaCompatibilityTest {
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 11, 3, 9, 30, 15, 123_000_000);
+
+    private final FileSchemaRegistry registry = FileSchemaRegistry.classpath();
+
+    @Test
+    void registeredVersionsAreCompatible() {
+        assertThat(registry.checkCompatibility()).isEmpty();
+    }
+
+    @Test
+    void sourceSchemasMatchLatestRegisteredVersion() throws IOException {
+        Map<String, String> sources = Map.of(
+                "user-registered", "UserRegisteredEvent.avsc",
+                "code-confirmation", "CodeConfirmation.avsc",
+                "password-reset", "PasswordResetEvent.avsc",
+                "user-login", "UserLoginEvent.avsc",
+                "password-changed", "PasswordChangedEvent.avsc"
+        );
+
+        assertThat(registry.subjects()).containsExactlyInAnyOrderElementsOf(sources.keySet());
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Schema schema = new Schema.Parser().parse(Path.of("src/main/avro", source.getValue()).toFile());
+            assertThat(registry.latest(source.getKey()))
+                    .as("src/main/avro and the latest registered version of %s differ", source.getKey())
+                    .map(RegisteredSchema::schema)
+                    .contains(schema);
+        }
+    }
+
+    @Test
+    void generatedClassesResolveToLatestRegisteredId() {
+        Map<String, Schema> generated = Map.of(
+                "user-registered", UserRegisteredEvent.getClassSchema(),
+                "code-confirmation", CodeConfirmation.getClassSchema(),
+                "password-reset", PasswordResetEvent.getClassSchema(),
+                "user-login", UserLoginEvent.getClassSchema(),
+                "password-changed", PasswordChangedEvent.getClassSchema()
+        );
+
+        generated.forEach((subject, schema) -> assertThat(registry.idOf(schema))
+                .isEqualTo(registry.latest(subject).orElseThrow().id()));
+    }
+
+    @Test
+    void nativeImageMetadataCoversEveryEvent() throws IOException {
+        JsonNode reflectConfig;
+        try (InputStream in = getClass().getResourceAsStream(
+                "/META-INF/native-image/com.dev.quikkkk/event-schemas/reflect-config.json")) {
+            reflectConfig = new ObjectMapper().readTree(in);
+        }
+
+        assertThat(StreamSupport.stream(reflectConfig.spliterator(), false).map(entry -> entry.get("name").asText()))
+                .containsExactlyInAnyOrderElementsOf(registry.subjects().stream()
+                        .map(subject -> registry.latest(subject).orElseThrow().schema().getFullName())
+                        .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void rejectsIncompatibleCandidate() {
+        Schema requiredFieldAdded = SchemaBuilder.record("UserLoginEvent")
+                .namespace("com.dev.quikkkk.event_schemas.avro")
+                .fields()
+                .requiredString("userId")
+                .name("timestamp").type(UserLoginEvent.getClassSchema().getField("timestamp").schema()).noDefault()
+                .requiredString("ipAddress")
+                .endRecord();
+
+        Schema optionalFieldAdded = SchemaBuilder.record("UserLoginEvent")
+                .namespace("com.dev.quikkkk.event_schemas.avro")
+                .fields()
+                .requiredString("userId")
+                .name("timestamp").type(UserLoginEvent.getClassSchema().getField("timestamp").schema()).noDefault()
+                .optionalString("ipAddress")
+                .endRecord();
+
+        assertThat(registry.checkCandidate("user-login", requiredFieldAdded)).isNotEmpty();
+        assertThat(registry.checkCandidate("user-login", optionalFieldAdded)).isEmpty();
+    }
+
+    @Test
+    void roundTripsEveryEvent() {
+        List<SpecificRecord> events = List.of(
+                UserRegisteredEvent.newBuilder()
+                        .setUserId("user-1")
+                        .setFirstName("John")
+                        .setLastName(null)
+                        .setEmail("john@example.com")
+                        .setRole("MEMBER")
+                        .setTimestamp(TIMESTAMP)
+                        .build(),
+                CodeConfirmation.newBuilder()
+                        .setUserId("user-1")
+                        .setEmail("john@example.com")
+                        .setCode("123456")
+                        .build(),
+                PasswordResetEvent.newBuilder()
+                        .setEmail("john@example.com")
+                        .setResetLink("http://localhost:3000/reset-password?token=abc")
+                        .build(),
+                UserLoginEvent.newBuilder().setUserId("user-1").setTimestamp(TIMESTAMP).build(),
+                PasswordChangedEvent.newBuilder()
+                        .setUserId("user-1")
+                        .setEmail("john@example.com")
+                        .setTimestamp(TIMESTAMP)
+                        .build()
+        );
+
+        AvroEventSerializer<SpecificRecord> serializer = new AvroEventSerializer<>(registry);
+        for (SpecificRecord event : events) {
+            byte[] bytes = serializer.serialize("topic", event);
+            assertThat(roundTrip(event.getClass(), bytes)).isEqualTo(event);
+        }
+    }
+
+    @Test
+    void decodesLegacyJsonPayloads() {
+        String registered = """
+                {"userId":"user-1","firstName":"John","lastName":"Doe","email":"john@example.com",
+                 "role":"MEMBER","timestamp":[2025,11,3,9,30,15,123000000]}
+                """;
+        String code = """
+                {"code":"123456","email":"john@example.com","userId":"user-1",
+                 "templateType":"EMAIL_VERIFICATION","templateVariables":null}
+                """;
+
+        UserRegisteredEvent event = new AvroEventDeserializer<>(UserRegisteredEvent.class, registry)
+                .deserialize("user-registered-topic", registered.getBytes(StandardCharsets.UTF_8));
+        CodeConfirmation confirmation = new AvroEventDeserializer<>(CodeConfirmation.class, registry)
+                .deserialize("code-topic", code.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(event.getLastName()).isEqualTo("Doe");
+        assertThat(event.getTimestamp()).isEqualTo(TIMESTAMP);
+        assertThat(confirmation.getCode()).isEqualTo("123456");
+        assertThat(confirmation.getTemplateVariables()).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownSchemaId() {
+        byte[] bytes = {0x0, 0x0, 0x0, 0x7F, 0x7F, 0x02};
+
+        assertThatThrownBy(() -> new AvroEventDeserializer<>(UserLoginEvent.class, registry).deserialize("user-login-topic", bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SpecificRecord roundTrip(Class<?> type, byte[] bytes) {
+        return new AvroEventDeserializer<>((Class<SpecificRecord>) type, registry).deserialize("topic", bytes);
+    }
+}
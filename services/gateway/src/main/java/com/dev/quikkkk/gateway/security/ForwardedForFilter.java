@@ -0,0 +1,69 @@
+package com.dev.quikkkk.gateway.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Replaces whatever X-Forwarded-For the client sent with the address the gateway actually saw, so services
+ * behind it can key per-client limits on the last hop without a client being able to pick its own key.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ForwardedForFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Forwarded-For";
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        filterChain.doFilter(new ForwardedForRequest(request, request.getRemoteAddr()), response);
+    }
+
+    private static final class ForwardedForRequest extends HttpServletRequestWrapper {
+        private final String forwardedFor;
+
+        ForwardedForRequest(HttpServletRequest request, String forwardedFor) {
+            super(request);
+            this.forwardedFor = forwardedFor;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (HEADER.equalsIgnoreCase(name)) return forwardedFor;
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (HEADER.equalsIgnoreCase(name)) return Collections.enumeration(Set.of(forwardedFor));
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            Set<String> names = new LinkedHashSet<>();
+            for (String name : Collections.list(super.getHeaderNames())) {
+                if (!HEADER.equalsIgnoreCase(name)) names.add(name);
+            }
+
+            names.add(HEADER);
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.dev.quikkkk.gateway.security;
+
+import java.util.List;
+
+public record IdentityClaims(
+        String uid,
+        String email,
+        List<String> roles,
+        long exp,
+        String typ
+) {
+}
@@ -0,0 +1,76 @@
+package com.dev.quikkkk.gateway.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Component
+public class IdentityHeaderSigner {
+    public static final String HEADER = "X-Auth-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final long maxAgeSeconds;
+    private final ThreadLocal<Mac> mac;
+
+    public IdentityHeaderSigner(
+            ObjectMapper objectMapper,
+            @Value("${app.security.identity-header.secret}") String secret,
+            @Value("${app.security.identity-header.max-age-seconds:60}") long maxAgeSeconds
+    ) {
+        byte[] secretBytes = secret.getBytes(UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.security.identity-header.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String sign(TokenIdentity identity) {
+        long maxExpiry = Instant.now().getEpochSecond() + maxAgeSeconds;
+        long expiry = identity.expiresAt() == null
+                ? maxExpiry
+                : Math.min(identity.expiresAt().getEpochSecond(), maxExpiry);
+
+        IdentityClaims claims = new IdentityClaims(
+                identity.userId(),
+                identity.email(),
+                identity.roles(),
+                expiry,
+                identity.tokenType()
+        );
+
+        try {
+            String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return payload + '.' + ENCODER.encodeToString(mac.get().doFinal(payload.getBytes(UTF_8)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize identity header", e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.dev.quikkkk.gateway.security;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TokenIdentity(
+        String tokenId,
+        String userId,
+        String email,
+        List<String> roles,
+        Instant expiresAt,
+        String tokenType
+) {
+    public boolean isExpired() {
+        return expiresAt != null && !Instant.now().isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,145 @@
+package com.dev.quikkkk.gateway.security;
+
+import com.dev.quikkkk.gateway.service.IJwtService;
+import com.dev.quikkkk.gateway.service.ITokenRevocationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.dev.quikkkk.gateway.security.IdentityHeaderSigner.HEADER;
+import static jakarta.servlet.http.HttpServletResponse.SC_UNAUTHORIZED;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class TrustedIdentityFilter extends OncePerRequestFilter {
+    private static final Set<String> TOKEN_AGNOSTIC_PATHS = Set.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/register",
+            "/api/v1/auth/logout",
+            "/api/v1/auth/verify-email",
+            "/api/v1/auth/resend-verification",
+            "/api/v1/auth/refresh-token"
+    );
+
+    private final IJwtService jwtService;
+    private final ITokenRevocationService revocationService;
+    private final IdentityHeaderSigner headerSigner;
+    private final Counter verified;
+    private final Counter rejected;
+    private final Counter revoked;
+
+    public TrustedIdentityFilter(
+            IJwtService jwtService,
+            ITokenRevocationService revocationService,
+            IdentityHeaderSigner headerSigner,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtService = jwtService;
+        this.revocationService = revocationService;
+        this.headerSigner = headerSigner;
+        this.verified = resultCounter(meterRegistry, "verified");
+        this.rejected = resultCounter(meterRegistry, "invalid");
+        this.revoked = resultCounter(meterRegistry, "revoked");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String authHeader = request.getHeader(AUTHORIZATION);
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ") || TOKEN_AGNOSTIC_PATHS.contains(request.getRequestURI())) {
+            filterChain.doFilter(new IdentityHeaderRequest(request, null), response);
+            return;
+        }
+
+        String jwt = authHeader.substring(7);
+        TokenIdentity identity;
+
+        try {
+            identity = jwtService.introspect(jwt);
+        } catch (Exception e) {
+            log.debug("Gateway token verification failed: {}", e.getMessage());
+            rejected.increment();
+            filterChain.doFilter(new IdentityHeaderRequest(request, null), response);
+            return;
+        }
+
+        if (identity.email() == null || identity.isExpired()) {
+            rejected.increment();
+            filterChain.doFilter(new IdentityHeaderRequest(request, null), response);
+            return;
+        }
+
+        if (revocationService.isRevoked(jwt, identity)) {
+            revoked.increment();
+            response.setStatus(SC_UNAUTHORIZED);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Token has been revoked\",\"code\":\"TOKEN_BLACKLISTED\"}");
+            return;
+        }
+
+        verified.increment();
+        filterChain.doFilter(new IdentityHeaderRequest(request, headerSigner.sign(identity)), response);
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.auth.tokens")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class IdentityHeaderRequest extends HttpServletRequestWrapper {
+        private final String identity;
+
+        IdentityHeaderRequest(HttpServletRequest request, String identity) {
+            super(request);
+            this.identity = identity;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (HEADER.equalsIgnoreCase(name)) return identity;
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (HEADER.equalsIgnoreCase(name)) {
+                return identity == null ? Collections.emptyEnumeration() : Collections.enumeration(Set.of(identity));
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            Set<String> names = new LinkedHashSet<>();
+            for (String name : Collections.list(super.getHeaderNames())) {
+                if (!HEADER.equalsIgnoreCase(name)) names.add(name);
+            }
+
+            if (identity != null) names.add(HEADER);
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.dev.quikkkk.gateway.service;
+
+import com.dev.quikkkk.gateway.security.TokenIdentity;
+
+public interface IJwtService {
+    TokenIdentity introspect(String token);
+}
@@ -0,0 +1,7 @@
+package com.dev.quikkkk.gateway.service;
+
+import java.security.PublicKey;
+
+public interface ISigningKeyService {
+    PublicKey getVerificationKey(String keyId);
+}
@@ -0,0 +1,109 @@
+package com.dev.quikkkk.gateway.service.impl;
+
+import com.dev.quikkkk.gateway.service.ISigningKeyService;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class JwksSigningKeyServiceImpl implements ISigningKeyService {
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(2);
+
+    private final RestClient restClient;
+    private final String jwksUri;
+    private final String legacyKeyId;
+    private final long minRefreshInterval;
+    private final AtomicLong lastRefresh = new AtomicLong();
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    public JwksSigningKeyServiceImpl(
+            @Value("${app.security.jwt.jwks-uri}") String jwksUri,
+            @Value("${app.security.jwt.legacy-key-id:local-only}") String legacyKeyId,
+            @Value("${app.security.jwt.jwks-min-refresh-interval:30000}") long minRefreshInterval
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(HTTP_TIMEOUT);
+        requestFactory.setReadTimeout(HTTP_TIMEOUT);
+
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.jwksUri = jwksUri;
+        this.legacyKeyId = legacyKeyId;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadKeys() {
+        refreshKeys();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.jwt.jwks-refresh-interval:300000}")
+    public void refreshKeys() {
+        lastRefresh.set(System.currentTimeMillis());
+        fetchKeys();
+    }
+
+    @Override
+    public PublicKey getVerificationKey(String keyId) {
+        String id = keyId != null ? keyId : legacyKeyId;
+        PublicKey key = keys.get(id);
+
+        if (key == null && tryRefresh()) key = keys.get(id);
+        if (key == null) throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+
+        return key;
+    }
+
+    private boolean tryRefresh() {
+        long now = System.currentTimeMillis();
+        long last = lastRefresh.get();
+
+        if (now - last < minRefreshInterval || !lastRefresh.compareAndSet(last, now)) return false;
+        return fetchKeys();
+    }
+
+    private boolean fetchKeys() {
+        try {
+            String body = restClient.get()
+                    .uri(jwksUri)
+                    .retrieve()
+                    .body(String.class);
+
+            JwkSet jwkSet = Jwks.setParser().build().parse(body);
+            Map<String, PublicKey> loadedKeys = new HashMap<>();
+
+            for (Jwk<?> jwk : jwkSet.getKeys()) {
+                Key key = jwk.toKey();
+                if (jwk.getId() != null && key instanceof PublicKey publicKey) loadedKeys.put(jwk.getId(), publicKey);
+            }
+
+            if (loadedKeys.isEmpty()) {
+                log.warn("JWKS from {} contains no usable public keys", jwksUri);
+                return false;
+            }
+
+            keys = Map.copyOf(loadedKeys);
+            log.debug("Refreshed JWKS from {}: {}", jwksUri, loadedKeys.keySet());
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to refresh JWKS from {}: {}", jwksUri, e.getMessage());
+            return false;
+        }
+    }
+}
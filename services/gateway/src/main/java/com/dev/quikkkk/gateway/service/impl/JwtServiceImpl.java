@@ -0,0 +1,76 @@
+package com.dev.quikkkk.gateway.service.impl;
+
+import com.dev.quikkkk.gateway.security.TokenIdentity;
+import com.dev.quikkkk.gateway.service.IJwtService;
+import com.dev.quikkkk.gateway.service.ISigningKeyService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class JwtServiceImpl implements IJwtService {
+    private static final String TOKEN_TYPE = "token_type";
+    private static final String USER_ID = "userId";
+    private static final String ROLES = "roles";
+
+    private final JwtParser jwtParser;
+    private final Cache<String, TokenIdentity> identityCache;
+
+    public JwtServiceImpl(
+            ISigningKeyService signingKeyService,
+            @Value("${app.security.jwt.cache.maximum-size:100000}") long maximumSize,
+            @Value("${app.security.jwt.cache.expire-after:PT5M}") Duration expireAfter
+    ) {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return signingKeyService.getVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+        this.identityCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfter)
+                .build();
+    }
+
+    @Override
+    public TokenIdentity introspect(String token) {
+        TokenIdentity identity = identityCache.getIfPresent(token);
+        if (identity != null) return identity;
+
+        identity = parseToken(token);
+        identityCache.put(token, identity);
+        return identity;
+    }
+
+    private TokenIdentity parseToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        return new TokenIdentity(
+                claims.getId(),
+                Objects.toString(claims.get(USER_ID), null),
+                claims.getSubject(),
+                toRoles(claims.get(ROLES)),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                Objects.toString(claims.get(TOKEN_TYPE), null)
+        );
+    }
+
+    private static List<String> toRoles(Object roles) {
+        if (!(roles instanceof Collection<?> names)) return List.of();
+        return names.stream().map(Object::toString).toList();
+    }
+}
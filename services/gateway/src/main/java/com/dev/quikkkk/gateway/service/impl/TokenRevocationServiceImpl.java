@@ -0,0 +1,211 @@
+package com.dev.quikkkk.gateway.service.impl;
+
+import com.dev.quikkkk.gateway.security.TokenIdentity;
+import com.dev.quikkkk.gateway.service.ITokenRevocationService;
+import com.dev.quikkkk.gateway.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationServiceImpl implements ITokenRevocationService, MessageListener, SubscriptionListener {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private static final String REVOKED_JTI_KEY_PREFIX = "bl:";
+    private static final String LEGACY_KEY_PREFIX = "blacklist_token_";
+    private static final int DIGEST_BYTES = 16;
+    private static final String REVOCATION_CHANNEL = "token-revocations";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    @Value("${app.security.blacklist.expected-revocations:1000000}")
+    private long expectedRevocations;
+
+    @Value("${app.security.blacklist.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${app.security.blacklist.deny-on-redis-failure:true}")
+    private boolean denyOnRedisFailure;
+
+    private final Object filterLock = new Object();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile BloomFilter revokedTokens;
+    private BloomFilter rebuildingFilter;
+    private long subscriptionEpoch;
+    private volatile boolean filterLoaded;
+
+    private Counter filterMisses;
+    private Counter redisHits;
+    private Counter falsePositives;
+    private Counter redisFailures;
+
+    @PostConstruct
+    public void init() {
+        revokedTokens = new BloomFilter(expectedRevocations, falsePositiveRate);
+        filterMisses = lookupCounter("filter_miss");
+        redisHits = lookupCounter("revoked");
+        falsePositives = lookupCounter("false_positive");
+        redisFailures = lookupCounter("redis_error");
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocationFilter() {
+        rebuildFilter();
+    }
+
+    @Override
+    public boolean isRevoked(String token, TokenIdentity identity) {
+        String key = revocationKey(token, identity);
+
+        if (filterLoaded && !revokedTokens.mightContain(key)) {
+            filterMisses.increment();
+            return false;
+        }
+
+        try {
+            boolean revoked = Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+            (revoked ? redisHits : falsePositives).increment();
+            return revoked;
+        } catch (RuntimeException e) {
+            redisFailures.increment();
+            boolean deny = filterLoaded && denyOnRedisFailure;
+            log.warn("Revocation lookup failed, treating token as {}: {}", deny ? "revoked" : "valid", e.getMessage());
+            return deny;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilter(new String(message.getBody(), UTF_8));
+    }
+
+    /**
+     * Called on the first subscription and again whenever the container resubscribes after losing its
+     * connection. Revocations published in between are gone for good, and downstream services trust the
+     * identity header this gateway signs, so every lookup goes to Redis until a fresh rebuild has finished.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        synchronized (filterLock) {
+            subscriptionEpoch++;
+            filterLoaded = false;
+        }
+        Thread.ofVirtual().name("revocation-filter-rebuild").start(this::rebuildFilter);
+    }
+
+    @Scheduled(
+            fixedRateString = "${app.security.blacklist.rebuild-interval-minutes:5}",
+            initialDelayString = "${app.security.blacklist.rebuild-interval-minutes:5}",
+            timeUnit = TimeUnit.MINUTES
+    )
+    public void refreshFilter() {
+        rebuildFilter();
+    }
+
+    @Scheduled(fixedDelay = 30 * 1000, initialDelay = 30 * 1000)
+    public void retryFilterLoad() {
+        if (!filterLoaded) rebuildFilter();
+    }
+
+    private void rebuildFilter() {
+        rebuildLock.lock();
+        try {
+            BloomFilter filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+            long epoch;
+            synchronized (filterLock) {
+                rebuildingFilter = filter;
+                epoch = subscriptionEpoch;
+            }
+
+            try {
+                long entries = scanInto(filter, REVOKED_JTI_KEY_PREFIX) + scanInto(filter, LEGACY_KEY_PREFIX);
+
+                synchronized (filterLock) {
+                    revokedTokens = filter;
+                    rebuildingFilter = null;
+                    // A resubscription during the scan may have lost messages this scan already passed
+                    if (epoch == subscriptionEpoch) filterLoaded = true;
+                }
+                log.info("Token revocation filter loaded with {} entries", entries);
+            } catch (RuntimeException e) {
+                synchronized (filterLock) {
+                    rebuildingFilter = null;
+                }
+                log.warn("Could not rebuild token revocation filter, {}: {}",
+                        filterLoaded ? "keeping previous filter" : "falling back to Redis lookups", e.getMessage());
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private long scanInto(BloomFilter filter, String prefix) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(prefix + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        long entries = 0;
+
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                filter.put(cursor.next());
+                entries++;
+            }
+        }
+
+        return entries;
+    }
+
+    private String revocationKey(String token, TokenIdentity identity) {
+        if (identity.tokenId() == null) return LEGACY_KEY_PREFIX + token;
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity.tokenId().getBytes(UTF_8));
+            return REVOKED_JTI_KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Under the same lock as the rebuild handoff, so a revocation racing a rebuild lands in the filter that wins
+    private void addToFilter(String key) {
+        synchronized (filterLock) {
+            revokedTokens.put(key);
+            if (rebuildingFilter != null) rebuildingFilter.put(key);
+        }
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("gateway.blacklist.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
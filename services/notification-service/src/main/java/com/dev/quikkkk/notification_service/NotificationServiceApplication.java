@@ -1,11 +1,14 @@
 package com.dev.quikkkk.notification_service;
 
+import com.dev.quikkkk.notification_service.config.NotificationRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
 @EnableAsync
+@ImportRuntimeHints(NotificationRuntimeHints.class)
 public class NotificationServiceApplication {
 
 	public static void main(String[] args) {
@@ -1,7 +1,8 @@
 package com.dev.quikkkk.notification_service.config;
 
-import com.dev.quikkkk.notification_service.dto.CodeConfirmation;
-import com.dev.quikkkk.notification_service.dto.PasswordReset;
+import com.dev.quikkkk.event_schemas.avro.CodeConfirmation;
+import com.dev.quikkkk.event_schemas.avro.PasswordResetEvent;
+import com.dev.quikkkk.event_schemas.serde.AvroEventDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +12,6 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,23 +23,10 @@ public class KafkaConsumerConfig {
 
     @Bean
     public ConsumerFactory<String, CodeConfirmation> codeConfirmationConsumerFactory() {
-        Map<String, Object> config = new HashMap<>();
-
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-service");
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, CodeConfirmation.class.getName());
-        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-
         return new DefaultKafkaConsumerFactory<>(
-                config,
+                consumerConfig(),
                 new StringDeserializer(),
-                new JsonDeserializer<>(CodeConfirmation.class, false)
+                new ErrorHandlingDeserializer<>(new AvroEventDeserializer<>(CodeConfirmation.class))
         );
     }
 
@@ -51,32 +38,29 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConsumerFactory<String, PasswordReset> passwordResetConsumerFactory() {
-        Map<String, Object> config = new HashMap<>();
-
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-service");
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PasswordReset.class.getName());
-        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-
+    public ConsumerFactory<String, PasswordResetEvent> passwordResetConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(
-                config,
+                consumerConfig(),
                 new StringDeserializer(),
-                new JsonDeserializer<>(PasswordReset.class, false)
+                new ErrorHandlingDeserializer<>(new AvroEventDeserializer<>(PasswordResetEvent.class))
         );
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, PasswordReset> passwordResetKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, PasswordReset> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, PasswordResetEvent> passwordResetKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, PasswordResetEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(passwordResetConsumerFactory());
         return factory;
     }
+
+    private Map<String, Object> consumerConfig() {
+        Map<String, Object> config = new HashMap<>();
+
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-service");
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return config;
+    }
 }
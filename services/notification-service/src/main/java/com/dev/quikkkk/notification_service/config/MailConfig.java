@@ -1,30 +1,25 @@
 package com.dev.quikkkk.notification_service.config;
 
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
-import java.util.Properties;
-
 @Configuration
+@EnableConfigurationProperties(MailProperties.class)
 public class MailConfig {
     @Bean
-    public JavaMailSender javaMailSender() {
+    public JavaMailSender javaMailSender(MailProperties properties) {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
 
-        mailSender.setHost("localhost");
-        mailSender.setPort(1025);
-        mailSender.setUsername("root");
-        mailSender.setPassword("root");
-
-        Properties props = mailSender.getJavaMailProperties();
-        props.put("mail.smtp.auth", "true");
-        props.put("mail.smtp.starttls.enable", "true");
-        props.put("mail.smtp.connectiontimeout", "5000");
-        props.put("mail.smtp.timeout", "30000");
-        props.put("mail.smtp.writetimeout", "5000");
-        props.put("mail.smtp.ssl.trust", "*");
+        mailSender.setHost(properties.getHost());
+        if (properties.getPort() != null) mailSender.setPort(properties.getPort());
+        mailSender.setUsername(properties.getUsername());
+        mailSender.setPassword(properties.getPassword());
+        mailSender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        mailSender.getJavaMailProperties().putAll(properties.getProperties());
 
         return mailSender;
     }
@@ -0,0 +1,18 @@
+package com.dev.quikkkk.notification_service.config;
+
+import com.dev.quikkkk.notification_service.document.Notification;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image metadata the AOT engine cannot infer: email templates are resolved by name at runtime and the
+ * Mongo document is only reached through the repository. Avro event metadata ships with event-schemas.
+ */
+public class NotificationRuntimeHints implements RuntimeHintsRegistrar {
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("templates/*.html");
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), Notification.class);
+    }
+}
@@ -1,7 +0,0 @@
-package com.dev.quikkkk.notification_service.dto;
-
-public record PasswordReset(
-        String email,
-        String resetLink
-) {
-}
@@ -1,8 +1,8 @@
 package com.dev.quikkkk.notification_service.kafka;
 
+import com.dev.quikkkk.event_schemas.avro.CodeConfirmation;
+import com.dev.quikkkk.event_schemas.avro.PasswordResetEvent;
 import com.dev.quikkkk.notification_service.document.Notification;
-import com.dev.quikkkk.notification_service.dto.CodeConfirmation;
-import com.dev.quikkkk.notification_service.dto.PasswordReset;
 import com.dev.quikkkk.notification_service.repository.INotificationRepository;
 import com.dev.quikkkk.notification_service.service.IEmailService;
 import jakarta.mail.MessagingException;
@@ -29,24 +29,24 @@ public class NotificationConsumer {
             containerFactory = "codeConfirmationKafkaListenerContainerFactory"
     )
     public void consumeCodeEmailVerification(CodeConfirmation notification) throws MessagingException {
-        log.info("Received email verification notification: {}", notification);
+        log.info("Received email verification notification for user: {}", notification.getUserId());
         try {
             repository.save(
                     Notification.builder()
                             .type(SEND_EMAIL_VERIFICATION)
-                            .email(notification.email())
+                            .email(notification.getEmail())
                             .notificationDate(LocalDateTime.now())
                             .build()
             );
 
             service.sendCodeSuccessEmail(
-                    notification.email(),
-                    notification.code()
+                    notification.getEmail(),
+                    notification.getCode()
             );
 
-            log.info("Email verification notification sent successfully to: {}", notification.email());
+            log.info("Email verification notification sent successfully to: {}", notification.getEmail());
         } catch (Exception e) {
-            log.error("Failed to send email verification notification to: {}", notification.email(), e);
+            log.error("Failed to send email verification notification to: {}", notification.getEmail(), e);
             throw e;
         }
     }
@@ -56,21 +56,21 @@ public class NotificationConsumer {
             groupId = "notification-service",
             containerFactory = "passwordResetKafkaListenerContainerFactory"
     )
-    public void consumePasswordResetEmail(PasswordReset event) {
-        log.info("Received password reset notification: {}", event.email());
+    public void consumePasswordResetEmail(PasswordResetEvent event) {
+        log.info("Received password reset notification: {}", event.getEmail());
         try {
             repository.save(
                     Notification.builder()
                             .type(PASSWORD_RESET)
-                            .email(event.email())
+                            .email(event.getEmail())
                             .notificationDate(LocalDateTime.now())
                             .build()
             );
 
-            service.sendPasswordResetEmail(event.email(), event.resetLink());
-            log.info("Password reset notification sent successfully to: {}", event.email());
+            service.sendPasswordResetEmail(event.getEmail(), event.getResetLink());
+            log.info("Password reset notification sent successfully to: {}", event.getEmail());
         } catch (Exception e) {
-            log.error("Failed to send password reset notification to: {}", event.email(), e);
+            log.error("Failed to send password reset notification to: {}", event.getEmail(), e);
         }
     }
 }
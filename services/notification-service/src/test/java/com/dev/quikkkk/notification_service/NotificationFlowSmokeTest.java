@@ -0,0 +1,149 @@
+package com.dev.quikkkk.notification_service;
+
+import com.dev.quikkkk.event_schemas.avro.CodeConfirmation;
+import com.dev.quikkkk.event_schemas.avro.PasswordResetEvent;
+import com.dev.quikkkk.event_schemas.serde.AvroEventSerializer;
+import com.dev.quikkkk.notification_service.document.Notification;
+import com.dev.quikkkk.notification_service.repository.INotificationRepository;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeMessage;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static com.dev.quikkkk.notification_service.document.NotificationType.PASSWORD_RESET;
+import static com.dev.quikkkk.notification_service.document.NotificationType.SEND_EMAIL_VERIFICATION;
+import static com.dev.quikkkk.notification_service.dto.EmailTemplate.CODE_CONFIRMATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Consume, render and send end to end against local stand-ins: an embedded Kafka broker, an in-memory Mongo
+ * server and a GreenMail SMTP sink. Events are published in the same Avro wire format auth-service uses.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.refresh.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=root",
+        "spring.mail.password=root",
+        "spring.mail.properties.mail.smtp.starttls.enable=false"
+})
+@EmbeddedKafka(
+        partitions = 1,
+        topics = {"code-topic", "password-reset-topic"},
+        bootstrapServersProperty = "spring.kafka.consumer.bootstrap-servers"
+)
+class NotificationFlowSmokeTest {
+    private static final long TIMEOUT_MS = 30_000;
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("root", "root"));
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private INotificationRepository repository;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        String connectionString = MONGO.bindAndGetConnectionString();
+        registry.add("spring.data.mongodb.uri", () -> connectionString + "/notification_db");
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    void clearNotifications() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void codeConfirmationIsRenderedAndSent() throws Exception {
+        send("code-topic", CodeConfirmation.newBuilder()
+                .setUserId("user-1")
+                .setEmail("john@example.com")
+                .setCode("482913")
+                .build());
+
+        MimeMessage message = awaitSingleMessage();
+
+        assertThat(message.getAllRecipients()).extracting(Object::toString).containsExactly("john@example.com");
+        assertThat(message.getSubject()).isEqualTo(CODE_CONFIRMATION.getSubject());
+        assertThat(html(message)).contains("482913");
+        assertThat(repository.findAll())
+                .extracting(Notification::getType, Notification::getEmail)
+                .containsExactly(tuple(SEND_EMAIL_VERIFICATION, "john@example.com"));
+    }
+
+    @Test
+    void passwordResetIsRenderedAndSent() throws Exception {
+        String resetLink = "http://localhost:3000/reset-password?token=smoke-test-token";
+        send("password-reset-topic", PasswordResetEvent.newBuilder()
+                .setEmail("jane@example.com")
+                .setResetLink(resetLink)
+                .build());
+
+        MimeMessage message = awaitSingleMessage();
+
+        assertThat(message.getAllRecipients()).extracting(Object::toString).containsExactly("jane@example.com");
+        assertThat(html(message)).contains(resetLink, "jane@example.com");
+        assertThat(repository.findAll())
+                .extracting(Notification::getType, Notification::getEmail)
+                .containsExactly(tuple(PASSWORD_RESET, "jane@example.com"));
+    }
+
+    private void send(String topic, SpecificRecord event) throws Exception {
+        DefaultKafkaProducerFactory<String, SpecificRecord> producerFactory = new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(broker), new StringSerializer(), new AvroEventSerializer<>());
+        try {
+            new KafkaTemplate<>(producerFactory).send(topic, event).get();
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    private static MimeMessage awaitSingleMessage() {
+        assertThat(GREEN_MAIL.waitForIncomingEmail(TIMEOUT_MS, 1)).as("email delivered to the SMTP sink").isTrue();
+        MimeMessage[] messages = GREEN_MAIL.getReceivedMessages();
+        assertThat(messages).hasSize(1);
+        return messages[0];
+    }
+
+    private static String html(Part part) throws Exception {
+        if (part.isMimeType("text/html")) return (String) part.getContent();
+        if (part.getContent() instanceof Multipart multipart) {
+            for (int i = 0; i < multipart.getCount(); i++) {
+                String html = html(multipart.getBodyPart(i));
+                if (html != null) return html;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.dev.quikkkk.user_service.benchmark;
+
+import com.dev.quikkkk.user_service.config.RedisConfig;
+import com.dev.quikkkk.user_service.dto.response.TrainerResponse;
+import com.dev.quikkkk.user_service.dto.response.UserProfileResponse;
+import com.dev.quikkkk.user_service.enums.GenderType;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Encode and decode cost of one cache entry per codec. "jdk" is what the users and trainers caches used
+ * before, since their per-cache configuration fell back to JDK serialization; the other codecs go through
+ * {@link RedisConfig} exactly as the cache manager does. Bytes per entry are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class CacheCodecBenchmark {
+
+    @Param({"jdk", "json", "smile", "smile-lz4"})
+    private String codec;
+
+    @Param({"profile", "trainer", "page"})
+    private String payload;
+
+    private SerializationPair<Object> pair;
+    private Object value;
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setUp() {
+        value = switch (payload) {
+            case "profile" -> profile();
+            case "trainer" -> trainer(1);
+            default -> trainerPage();
+        };
+        pair = "jdk".equals(codec)
+                ? RedisCacheConfiguration.defaultCacheConfig().getValueSerializationPair()
+                : configuration(value).getValueSerializationPair();
+
+        encoded = pair.write(value);
+        System.out.printf("%n[cache-codec] codec=%s payload=%s bytes=%d%n", codec, payload, encoded.remaining());
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        return pair.write(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return pair.read(encoded.duplicate());
+    }
+
+    private RedisCacheConfiguration configuration(Object sample) {
+        RedisConfig config = new RedisConfig();
+        ReflectionTestUtils.setField(config, "codecFormat", codec.startsWith("smile") ? "smile" : "json");
+        ReflectionTestUtils.setField(config, "schemaVersion", 1);
+        ReflectionTestUtils.setField(config, "compressionThreshold", codec.endsWith("lz4") ? 256 : 0);
+
+        ObjectMapper mapper = ReflectionTestUtils.invokeMethod(config, "cacheObjectMapper");
+        JavaType type = sample instanceof Page<?>
+                ? mapper.getTypeFactory().constructParametricType(Page.class, TrainerResponse.class)
+                : mapper.constructType(sample.getClass());
+
+        return ReflectionTestUtils.invokeMethod(config, "cacheConfiguration", mapper, type, Duration.ofMinutes(5));
+    }
+
+    private static UserProfileResponse profile() {
+        return UserProfileResponse.builder()
+                .id("0b6f3c52-6c1e-4d0f-9a57-3f1f3b8e2d41")
+                .email("john.doe@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .phone("+1-202-555-0143")
+                .dateOfBirth(LocalDateTime.of(1990, 5, 17, 0, 0))
+                .gender(GenderType.MALE)
+                .avatarUrl("http://localhost:8070/uploads/avatar/0b6f3c52-6c1e-4d0f-9a57-3f1f3b8e2d41.webp")
+                .address("221B Baker Street, London")
+                .emergencyContactName("Jane Doe")
+                .emergencyContactPhone("+1-202-555-0199")
+                .build();
+    }
+
+    private static TrainerResponse trainer(int index) {
+        return TrainerResponse.builder()
+                .id("trainer-" + index + "-7d1c4e0a-5b2f-4c8e-9d3a-1f6b2c8e4a70")
+                .userId("user-" + index + "-2a9e6f14-8c3b-4d7a-b1e5-6c0f9a3d7b82")
+                .firstname("Trainer" + index)
+                .lastname("Smith")
+                .email("trainer" + index + "@example.com")
+                .avatarUrl("http://localhost:8070/uploads/avatar/trainer-" + index + ".webp")
+                .specialization(List.of("STRENGTH", "CARDIO", "MOBILITY"))
+                .certification("NASM Certified Personal Trainer")
+                .experienceYears(3 + index % 10)
+                .hourlyRate(new BigDecimal("45.00"))
+                .isAvailable(true)
+                .build();
+    }
+
+    private static Page<TrainerResponse> trainerPage() {
+        List<TrainerResponse> content = IntStream.rangeClosed(1, 20)
+                .mapToObj(CacheCodecBenchmark::trainer)
+                .toList();
+
+        return new PageImpl<>(content, PageRequest.of(0, 20, Sort.by("experienceYears").descending()), 137);
+    }
+}
@@ -1,34 +1,92 @@
 package com.dev.quikkkk.user_service.config;
 
+import com.dev.quikkkk.user_service.dto.response.TrainerResponse;
+import com.dev.quikkkk.user_service.dto.response.TrainerScheduleResponse;
+import com.dev.quikkkk.user_service.dto.response.UserProfileResponse;
+import com.dev.quikkkk.user_service.utils.CompactRedisSerializer;
+import com.dev.quikkkk.user_service.utils.PageJacksonModule;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
+    private static final String SMILE_CODEC = "smile";
+
+    @Value("${app.cache.codec.format:smile}")
+    private String codecFormat;
+
+    @Value("${app.cache.codec.schema-version:1}")
+    private int schemaVersion;
+
+    @Value("${app.cache.codec.compression-threshold:1024}")
+    private int compressionThreshold;
 
     @Bean
     public RedisCacheConfiguration redisCacheConfiguration() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        mapper.findAndRegisterModules();
+        ObjectMapper mapper = cacheObjectMapper();
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.dev.quikkkk.user_service.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.time.")
+                        .allowIfSubType("java.math.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+
+        return cacheConfiguration(mapper, mapper.constructType(Object.class), Duration.ofMinutes(5));
+    }
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
+        ObjectMapper mapper = cacheObjectMapper();
+        TypeFactory types = mapper.getTypeFactory();
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(mapper);
+        return builder -> builder
+                .withCacheConfiguration("users", cacheConfiguration(
+                        mapper, types.constructType(UserProfileResponse.class), Duration.ofMinutes(5)))
+                .withCacheConfiguration("trainers", cacheConfiguration(
+                        mapper, types.constructType(TrainerResponse.class), Duration.ofMinutes(10)))
+                .withCacheConfiguration("trainer_pages", cacheConfiguration(
+                        mapper, types.constructParametricType(Page.class, TrainerResponse.class), Duration.ofMinutes(10)))
+                .withCacheConfiguration("trainer_schedules", cacheConfiguration(
+                        mapper, types.constructCollectionType(List.class, TrainerScheduleResponse.class),
+                        Duration.ofMinutes(10)));
+    }
+
+    private RedisCacheConfiguration cacheConfiguration(ObjectMapper mapper, JavaType type, Duration ttl) {
+        CompactRedisSerializer<Object> serializer = new CompactRedisSerializer<>(
+                new Jackson2JsonRedisSerializer<>(mapper, type),
+                isSmile() ? CompactRedisSerializer.CODEC_SMILE : CompactRedisSerializer.CODEC_JSON,
+                schemaVersion,
+                compressionThreshold
+        );
 
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(5))
+                .entryTtl(ttl)
                 .disableCachingNullValues()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair
@@ -40,16 +98,25 @@ public class RedisConfig {
                 );
     }
 
-    @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
-        return builder -> builder
-                .withCacheConfiguration("users",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(5))
-                )
-                .withCacheConfiguration("trainers",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(10))
-                );
+    private ObjectMapper cacheObjectMapper() {
+        ObjectMapper mapper;
+        if (isSmile()) {
+            SmileFactory factory = SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build();
+            mapper = new ObjectMapper(factory);
+        } else {
+            mapper = new ObjectMapper();
+        }
+
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new PageJacksonModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return mapper;
+    }
+
+    private boolean isSmile() {
+        return SMILE_CODEC.equalsIgnoreCase(codecFormat);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package com.dev.quikkkk.user_service.kafka;
 
-import com.dev.quikkkk.user_service.dto.kafka.UserRegisteredEvent;
+import com.dev.quikkkk.event_schemas.avro.UserRegisteredEvent;
 import com.dev.quikkkk.user_service.entity.User;
 import com.dev.quikkkk.user_service.enums.RoleTypes;
 import com.dev.quikkkk.user_service.repository.IUserRepository;
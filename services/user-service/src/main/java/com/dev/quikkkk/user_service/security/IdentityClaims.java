@@ -0,0 +1,25 @@
+package com.dev.quikkkk.user_service.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+public record IdentityClaims(
+        String uid,
+        String email,
+        List<String> roles,
+        long exp,
+        String typ
+) {
+    public boolean isExpired() {
+        return Instant.now().getEpochSecond() >= exp;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return roles == null ? List.of() : roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -8,7 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
@@ -23,6 +23,7 @@ import static org.apache.http.HttpHeaders.AUTHORIZATION;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private final IJwtService service;
+    private final IdentityHeaderVerifier identityHeaderVerifier;
 
     @Override
     protected void doFilterInternal(
@@ -30,6 +31,14 @@ public class JwtFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
+        IdentityClaims identity = identityHeaderVerifier.verify(request.getHeader(IdentityHeaderVerifier.HEADER)).orElse(null);
+
+        if (identity != null) {
+            authenticate(request, identity.uid(), identity.email(), identity.authorities());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String authHeader = request.getHeader(AUTHORIZATION);
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -38,25 +47,27 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         String jwt = authHeader.substring(7);
-        String email = service.extractEmail(jwt);
-        String userId = service.extractUserId(jwt);
-
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (service.isTokenValid(jwt, email)) {
-                List<String> roles = service.extractRoles(jwt);
-                List<SimpleGrantedAuthority> authorities = (roles != null) ?
-                        roles.stream()
-                                .map(SimpleGrantedAuthority::new)
-                                .toList() : List.of();
-
-                var principal = new UserPrincipal(userId, email, authorities);
-                var authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, authorities);
-
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+        TokenIntrospection token = service.introspect(jwt);
+
+        if (token.email() != null && !token.isExpired()) {
+            authenticate(request, token.userId(), token.email(), token.authorities());
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(
+            HttpServletRequest request,
+            String userId,
+            String email,
+            List<GrantedAuthority> authorities
+    ) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) return;
+
+        var principal = new UserPrincipal(userId, email, authorities);
+        var authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
 }
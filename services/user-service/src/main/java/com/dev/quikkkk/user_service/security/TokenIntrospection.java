@@ -0,0 +1,24 @@
+package com.dev.quikkkk.user_service.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TokenIntrospection(
+        String email,
+        String userId,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt,
+        String tokenType
+) {
+    public boolean isExpired() {
+        return expiresAt != null && !Instant.now().isBefore(expiresAt);
+    }
+
+    public List<String> roles() {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+}
@@ -1,8 +1,12 @@
 package com.dev.quikkkk.user_service.service;
 
+import com.dev.quikkkk.user_service.security.TokenIntrospection;
+
 import java.util.List;
 
 public interface IJwtService {
+    TokenIntrospection introspect(String token);
+
     String extractEmail(String token);
 
     String extractUserId(String token);
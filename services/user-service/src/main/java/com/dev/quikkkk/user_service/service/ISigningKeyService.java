@@ -0,0 +1,7 @@
+package com.dev.quikkkk.user_service.service;
+
+import java.security.PublicKey;
+
+public interface ISigningKeyService {
+    PublicKey getVerificationKey(String keyId);
+}
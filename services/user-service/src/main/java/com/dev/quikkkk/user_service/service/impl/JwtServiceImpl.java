@@ -1,93 +1,108 @@
 package com.dev.quikkkk.user_service.service.impl;
 
+import com.dev.quikkkk.user_service.security.TokenIntrospection;
 import com.dev.quikkkk.user_service.service.IJwtService;
-import com.dev.quikkkk.user_service.utils.KeyUtils;
+import com.dev.quikkkk.user_service.service.ISigningKeyService;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import lombok.NonNull;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import java.security.PublicKey;
-import java.util.Date;
+import java.security.Key;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.concurrent.TimeUnit.MINUTES;
 
 @Service
 public class JwtServiceImpl implements IJwtService {
+    private static final String TOKEN_TYPE = "token_type";
     private static final String USER_ID = "userId";
-    private static final String PATH_TO_PUBLIC_KEY = "keys/local-only/public_key.pem";
-    private static final PublicKey PUBLIC_KEY;
+    private static final String ROLES = "roles";
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
 
-    private final Cache<@NonNull String, Claims> claimsCache = Caffeine.newBuilder()
+    private final JwtParser jwtParser;
+    private final Cache<@NonNull String, TokenIntrospection> claimsCache = Caffeine.newBuilder()
             .maximumSize(10000)
             .expireAfterWrite(5, MINUTES)
             .build();
 
-    static {
-        try {
-            PUBLIC_KEY = KeyUtils.loadPublicKey(PATH_TO_PUBLIC_KEY);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load JWT Keys", e);
-        }
+    public JwtServiceImpl(ISigningKeyService signingKeyService) {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return signingKeyService.getVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public TokenIntrospection introspect(String token) {
+        TokenIntrospection introspection = claimsCache.getIfPresent(token);
+        if (introspection != null) return introspection;
+
+        introspection = parseToken(token);
+        claimsCache.put(token, introspection);
+        return introspection;
     }
 
     @Override
     public String extractEmail(String token) {
-        return getCachedClaims(token).getSubject();
+        return introspect(token).email();
     }
 
     @Override
     public String extractUserId(String token) {
-        return getCachedClaims(token).get(USER_ID).toString();
+        return introspect(token).userId();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
-        return (List<String>) getCachedClaims(token).get("roles");
+        return introspect(token).roles();
     }
 
     @Override
     public boolean isTokenValid(String token, String expectedEmail) {
-        String email = extractEmail(token);
-        return email.equals(expectedEmail) && !isTokenExpired(token);
+        TokenIntrospection introspection = introspect(token);
+        return Objects.equals(introspection.email(), expectedEmail) && !introspection.isExpired();
     }
 
-    private Claims getCachedClaims(String token) {
-        return claimsCache.get(token, this::extractClaimsInternal);
-    }
-
-    private Claims extractClaimsInternal(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(PUBLIC_KEY)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (JwtException e) {
-            throw new RuntimeException("Invalid JWT token", e);
-        }
+    private TokenIntrospection parseToken(String token) {
+        Claims claims = extractClaims(token);
+        return new TokenIntrospection(
+                claims.getSubject(),
+                Objects.toString(claims.get(USER_ID), null),
+                toAuthorities(claims.get(ROLES)),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                Objects.toString(claims.get(TOKEN_TYPE), null)
+        );
     }
 
     private Claims extractClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(PUBLIC_KEY)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             throw new RuntimeException("Invalid JWT token", e);
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaims(token)
-                .getExpiration()
-                .before(new Date());
+    private static List<GrantedAuthority> toAuthorities(Object roles) {
+        if (!(roles instanceof Collection<?> names)) return List.of();
+        return names.stream()
+                .map(name -> AUTHORITIES.computeIfAbsent(name.toString(), SimpleGrantedAuthority::new))
+                .toList();
     }
 }
@@ -67,7 +67,7 @@ public class TrainerServiceImpl implements ITrainerService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "trainers", allEntries = true)
+    @CacheEvict(value = {"trainers", "trainer_pages"}, allEntries = true)
     public TrainerResponse updateTrainerProfile(String userId, UpdateTrainerProfileRequest request) {
         log.info("Updating trainer profile for user: {}", userId);
 
@@ -92,7 +92,7 @@ public class TrainerServiceImpl implements ITrainerService {
     }
 
     @Override
-    @Cacheable(value = "trainers", key = "'list:' + #page + ':' + #size + ':' + #specialization")
+    @Cacheable(value = "trainer_pages", key = "#page + ':' + #size + ':' + #specialization")
     public Page<TrainerResponse> getAllTrainers(int page, int size, String specialization) {
         log.info("Getting all trainers. Page: {}, Size: {}, Specialization: {}", page, size, specialization);
 
@@ -109,7 +109,7 @@ public class TrainerServiceImpl implements ITrainerService {
     }
 
     @Override
-    @Cacheable(value = "trainers", key = "'schedule:' + #trainerId")
+    @Cacheable(value = "trainer_schedules", key = "#trainerId")
     public List<TrainerScheduleResponse> getTrainerSchedule(String trainerId) {
         log.info("Getting schedule for trainer: {}", trainerId);
         if (!trainerRepository.existsById(trainerId)) throw new BusinessException(TRAINER_NOT_FOUND);
@@ -122,7 +122,7 @@ public class TrainerServiceImpl implements ITrainerService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "trainers", key = "'schedule:' + #result.id")
+    @CacheEvict(value = "trainer_schedules", allEntries = true)
     public TrainerScheduleResponse addScheduleSlot(String userId, CreateTrainerScheduleRequest request) {
         log.info("Adding schedule slot for user: {}", userId);
         TrainerProfile trainer = trainerRepository.findByUserId(userId)
@@ -140,7 +140,7 @@ public class TrainerServiceImpl implements ITrainerService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "trainers", allEntries = true)
+    @CacheEvict(value = "trainer_schedules", allEntries = true)
     public void deleteScheduleSlot(String userId, String scheduleId) {
         log.info("Deleting schedule slot: {} for user: {}", scheduleId, userId);
         TrainerProfile trainer = trainerRepository.findByUserId(userId)
@@ -157,7 +157,7 @@ public class TrainerServiceImpl implements ITrainerService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "trainers", allEntries = true)
+    @CacheEvict(value = {"trainers", "trainer_pages", "trainer_schedules"}, allEntries = true)
     public void deleteTrainerProfile(String userId) {
         log.info("Deleting trainer profile for user: {}", userId);
         TrainerProfile trainer = trainerRepository.findByUserId(userId)
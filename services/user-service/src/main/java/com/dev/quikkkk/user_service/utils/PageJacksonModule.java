@@ -0,0 +1,110 @@
+package com.dev.quikkkk.user_service.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes {@link Page} as content plus paging coordinates and reads it back as {@link PageImpl}, so paged
+ * results can be cached with a typed codec. {@code PageImpl} itself has no creator Jackson can use.
+ */
+public class PageJacksonModule extends SimpleModule {
+
+    public PageJacksonModule() {
+        super("PageJacksonModule");
+        addSerializer(new PageSerializer());
+        addDeserializer(Page.class, new PageDeserializer(null));
+    }
+
+    private static final class PageSerializer extends StdSerializer<Page<?>> {
+
+        private PageSerializer() {
+            super(Page.class, false);
+        }
+
+        @Override
+        public void serialize(Page<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            provider.defaultSerializeField("content", page.getContent(), gen);
+            gen.writeNumberField("number", page.getNumber());
+            gen.writeNumberField("size", page.getPageable().isPaged() ? page.getSize() : 0);
+            gen.writeNumberField("total", page.getTotalElements());
+            gen.writeArrayFieldStart("sort");
+            for (Sort.Order order : page.getSort()) {
+                gen.writeString(order.getProperty() + ":" + order.getDirection().name());
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class PageDeserializer extends StdDeserializer<Page<?>> implements ContextualDeserializer {
+        private final JavaType contentType;
+
+        private PageDeserializer(JavaType contentType) {
+            super(Page.class);
+            this.contentType = contentType;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+            JavaType pageType = property != null ? property.getType() : ctxt.getContextualType();
+            JavaType elementType = pageType != null
+                    ? pageType.containedTypeOrUnknown(0)
+                    : ctxt.getTypeFactory().constructType(Object.class);
+
+            return new PageDeserializer(ctxt.getTypeFactory().constructCollectionType(List.class, elementType));
+        }
+
+        @Override
+        public Page<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            List<?> content = List.of();
+            List<Sort.Order> orders = new ArrayList<>();
+            int number = 0;
+            int size = 0;
+            long total = 0;
+
+            JsonToken token = p.currentToken() == JsonToken.START_OBJECT ? p.nextToken() : p.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                p.nextToken();
+
+                switch (field) {
+                    case "content" -> content = ctxt.readValue(p, contentType);
+                    case "number" -> number = p.getIntValue();
+                    case "size" -> size = p.getIntValue();
+                    case "total" -> total = p.getLongValue();
+                    case "sort" -> {
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            String[] parts = p.getText().split(":", 2);
+                            orders.add(new Sort.Order(Sort.Direction.valueOf(parts[1]), parts[0]));
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+
+            Sort sort = Sort.by(orders);
+            Pageable pageable = size > 0 ? PageRequest.of(number, size, sort) : Pageable.unpaged(sort);
+            return new PageImpl<>(content, pageable, total);
+        }
+    }
+}